@@ -0,0 +1,163 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.repository.ExtractionTemplateRepository;
+import com.melllon.newsdatacollectservice.repository.GoogleNewsRedirectRepository;
+import com.melllon.newsdatacollectservice.service.extract.ExtractionTemplateCache;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 목록 파싱/후보 추출 구간 벤치마크 (src/jmh/resources/fixtures의 네이버 검색 HTML, 구글 뉴스 RSS)
+ * 실행: ./gradlew jmh (gc 프로파일러로 연산당 할당량도 함께 기록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlerParsingBenchmark {
+    
+    private static final String NAVER_SEARCH_URL = "https://search.naver.com/search.naver?where=news&query=AI";
+    private static final String GOOGLE_RSS_URL = "https://news.google.com/rss/search?q=AI&hl=ko&gl=KR&ceid=KR:ko";
+    
+    private NaverNewsCrawler naverNewsCrawler;
+    private GoogleNewsCrawler googleNewsCrawler;
+    private NewsSite naverSite;
+    private NewsSite googleSite;
+    
+    private String naverHtml;
+    private String googleRss;
+    private Document naverDocument;
+    private Document googleDocument;
+    private FetchResponse googleResponse;
+    
+    @Setup
+    public void setUp() throws IOException {
+        naverHtml = readFixture("fixtures/naver-search.html");
+        googleRss = readFixture("fixtures/google-news-rss.xml");
+        naverDocument = Jsoup.parse(naverHtml, NAVER_SEARCH_URL);
+        googleDocument = Jsoup.parse(googleRss, GOOGLE_RSS_URL, Parser.xmlParser());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/xml; charset=UTF-8"));
+        googleResponse = new FetchResponse(GOOGLE_RSS_URL, 200, headers, googleRss.getBytes(StandardCharsets.UTF_8));
+        
+        naverNewsCrawler = new NaverNewsCrawler();
+        inject(naverNewsCrawler, "extractionTemplateCache",
+               new ExtractionTemplateCache(inMemoryTemplateRepository(), new CrawlerProperties()));
+        googleNewsCrawler = new GoogleNewsCrawler();
+        inject(googleNewsCrawler, "googleNewsUrlResolver",
+               new GoogleNewsUrlResolver(emptyRedirectRepository(), null, null, null));
+        
+        naverSite = NewsSite.builder().id(1L).name("네이버 뉴스").baseUrl("https://search.naver.com").build();
+        googleSite = NewsSite.builder().id(2L).name("구글 뉴스").baseUrl("https://news.google.com").build();
+    }
+    
+    @Benchmark
+    public List<NewsArticle> naverExtractCandidates() {
+        return naverNewsCrawler.extractCandidates(naverDocument, naverSite);
+    }
+    
+    @Benchmark
+    public List<NewsArticle> naverParseAndExtractCandidates() {
+        return naverNewsCrawler.extractCandidates(Jsoup.parse(naverHtml, NAVER_SEARCH_URL), naverSite);
+    }
+    
+    @Benchmark
+    public List<String> naverListResultUrls() {
+        return naverNewsCrawler.listResultUrls(naverDocument);
+    }
+    
+    @Benchmark
+    public List<NewsArticle> googleExtractCandidates() {
+        return googleNewsCrawler.extractCandidates(googleDocument, googleSite);
+    }
+    
+    @Benchmark
+    public List<NewsArticle> googleParseAndExtractCandidates() {
+        Document doc = Jsoup.parse(googleRss, GOOGLE_RSS_URL, Parser.xmlParser());
+        return googleNewsCrawler.extractCandidates(doc, googleSite);
+    }
+    
+    /**
+     * 응답 본문을 DOM 없이 StAX로 읽는 경로 (수집 서비스가 실제로 사용하는 경로)
+     */
+    @Benchmark
+    public StreamedListing googleStreamCandidates() throws IOException {
+        return googleNewsCrawler.streamCandidates(googleResponse, googleSite, url -> false);
+    }
+    
+    private static String readFixture(String path) throws IOException {
+        try (InputStream in = CrawlerParsingBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("벤치마크 입력 파일이 없습니다: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+    
+    private static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalStateException("필드를 찾을 수 없습니다: " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+    
+    /**
+     * 저장된 구글 뉴스 링크 변환 결과가 없는 저장소 (링크 변환은 토큰 디코딩만 측정)
+     */
+    private static GoogleNewsRedirectRepository emptyRedirectRepository() {
+        return (GoogleNewsRedirectRepository) Proxy.newProxyInstance(
+                GoogleNewsRedirectRepository.class.getClassLoader(),
+                new Class<?>[]{GoogleNewsRedirectRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByTokenHashIn" -> List.of();
+                    case "findByTokenHash" -> Optional.empty();
+                    case "toString" -> "EmptyGoogleNewsRedirectRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+    
+    /**
+     * DB 없이 동작하는 저장소 (학습 결과는 메모리에만 유지)
+     */
+    private static ExtractionTemplateRepository inMemoryTemplateRepository() {
+        return (ExtractionTemplateRepository) Proxy.newProxyInstance(
+                ExtractionTemplateRepository.class.getClassLoader(),
+                new Class<?>[]{ExtractionTemplateRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> List.of();
+                    case "findByHostAndField" -> Optional.empty();
+                    case "save" -> args[0];
+                    case "toString" -> "InMemoryExtractionTemplateRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,22 @@
+package com.melllon.newsdatacollectservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(CrawlerProperties.class)
+public class CrawlerConfig {
+    
+    /**
+     * 크롤링용 가상 스레드 실행기
+     * 네트워크 I/O 대기 중인 작업이 플랫폼 스레드를 점유하지 않으므로 동시 요청 수를 크게 늘릴 수 있습니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService crawlExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crawl-", 0).factory());
+    }
+}
@@ -0,0 +1,307 @@
+package com.melllon.newsdatacollectservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 수집(크롤링) 관련 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "crawler")
+public class CrawlerProperties {
+    
+    private Pipeline pipeline = new Pipeline();
+    
+    private Deadline deadline = new Deadline();
+    
+    private Fetch fetch = new Fetch();
+    
+    private Http http = new Http();
+    
+    private Browser browser = new Browser();
+    
+    private Dedup dedup = new Dedup();
+    
+    private Extraction extraction = new Extraction();
+    
+    private Packing packing = new Packing();
+    
+    private Polling polling = new Polling();
+    
+    /**
+     * 단계별 수집 파이프라인 설정
+     * 각 단계는 독립된 동시성과 크기가 제한된 전달 큐를 가집니다.
+     */
+    @Data
+    public static class Pipeline {
+        
+        // 검색 결과 페이지 요청
+        private Stage search = new Stage(4, 50);
+        
+        // 목록에서 기사 후보 추출
+        private Stage extract = new Stage(2, 20);
+        
+        // 검색 결과 페이지 단위 본문 수집 (페이지 안의 기사들은 동시에 요청하며 호스트별 예산으로 제한)
+        private Stage enrich = new Stage(4, 20);
+        
+        // DB 저장
+        private Stage persist = new Stage(1, 200);
+        
+        // 저장 단계에서 한 번에 처리할 최대 기사 수
+        private int persistBatchSize = 50;
+    }
+    
+    /**
+     * 수집 작업 마감 시간 설정
+     */
+    @Data
+    public static class Deadline {
+        
+        // (사이트, 검색어) 하나의 검색 및 본문 수집에 허용되는 최대 시간
+        private Duration target = Duration.ofMinutes(2);
+        
+        // 검색 결과 페이지 하나의 기사 본문을 동시에 수집할 때 기다리는 최대 시간 (넘기면 목록 내용으로 저장)
+        private Duration page = Duration.ofSeconds(30);
+        
+        // 한 번의 전체 수집 실행에 허용되는 최대 시간 (스케줄 주기보다 짧아야 함)
+        private Duration run = Duration.ofMinutes(9);
+    }
+    
+    /**
+     * 외부 요청(호스트별 예산) 설정
+     * 뉴스 사이트에 값이 지정되어 있으면 해당 사이트의 검색/본문 요청에는 사이트 값이 우선합니다.
+     */
+    @Data
+    public static class Fetch {
+        
+        private double defaultRequestsPerSecond = 2.0;
+        
+        private int defaultMaxConcurrent = 4;
+        
+        // 호스트별 개별 설정 (예: n.news.naver.com)
+        private Map<String, HostLimit> hosts = new HashMap<>();
+    }
+    
+    /**
+     * 공용 HTTP 클라이언트(WebClient/Reactor Netty) 설정
+     */
+    @Data
+    public static class Http {
+        
+        // 전체 호스트에 대한 최대 연결 수 (호스트별 제한은 fetch 설정으로 적용)
+        private int maxConnections = 500;
+        
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        
+        // 검색 결과 페이지/RSS 응답 대기 시간
+        private Duration listingTimeout = Duration.ofSeconds(15);
+        
+        // 개별 기사 페이지 응답 대기 시간
+        private Duration articleTimeout = Duration.ofSeconds(10);
+        
+        // 응답 본문 최대 크기 (초과 시 요청 실패)
+        private DataSize maxBodySize = DataSize.ofMegabytes(8);
+        
+        private String userAgent = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+    }
+    
+    /**
+     * 헤드리스 크롬 세션 풀 설정 (구글 뉴스 본문 수집)
+     */
+    @Data
+    public static class Browser {
+        
+        // 동시에 띄워 둘 크롬 프로세스 수
+        private int browsers = 2;
+        
+        // 크롬 하나당 탭 수 (동시에 로딩할 수 있는 페이지 수)
+        private int tabsPerBrowser = 4;
+        
+        // 이 수만큼 페이지를 연 크롬은 종료 후 새로 띄움 (메모리 누적 방지)
+        private int maxPagesPerBrowser = 200;
+        
+        // 탭을 빌리기 위해 기다리는 최대 시간
+        private Duration acquireTimeout = Duration.ofSeconds(60);
+        
+        // 마지막 사용 후 이 시간이 지난 세션은 빌려줄 때 응답 여부를 확인
+        private Duration healthCheckIdle = Duration.ofSeconds(30);
+        
+        private Duration pageLoadTimeout = Duration.ofSeconds(30);
+        
+        // WebDriver 페이지 로딩 전략 (none: 이동 명령이 로딩을 기다리지 않음, eager, normal)
+        private String pageLoadStrategy = "none";
+        
+        // 기사 페이지를 준비된 것으로 볼 시점
+        private ReadyEvent readyEvent = ReadyEvent.DOM_CONTENT_LOADED;
+        
+        // 준비 시점 이후 남은 리소스(광고, 추적 스크립트 등) 로딩을 중단
+        private boolean stopLoadingWhenReady = true;
+        
+        // 성능 로그(DevTools 이벤트)를 확인하는 간격
+        private Duration eventPollInterval = Duration.ofMillis(50);
+        
+        private ResourcePolicy resourcePolicy = new ResourcePolicy();
+    }
+    
+    /**
+     * 기사 페이지 준비 시점
+     * MAIN_DOCUMENT: 본문 HTML 수신 완료, DOM_CONTENT_LOADED: DOM 구성 완료, LOAD: 모든 리소스 로딩 완료
+     */
+    public enum ReadyEvent {
+        MAIN_DOCUMENT, DOM_CONTENT_LOADED, LOAD
+    }
+    
+    /**
+     * 크롬에서 내려받지 않을 리소스 설정 (DevTools Network.setBlockedURLs)
+     */
+    @Data
+    public static class ResourcePolicy {
+        
+        private boolean enabled = true;
+        
+        // 이미지, 폰트, 미디어 등 본문 추출에 필요 없는 리소스 (쿼리 문자열이 붙은 URL도 포함하도록 끝에 *)
+        private List<String> blockedUrlPatterns = new ArrayList<>(List.of(
+                "*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.avif*", "*.svg*", "*.ico*",
+                "*.woff*", "*.ttf*", "*.otf*", "*.eot*",
+                "*.mp4*", "*.webm*", "*.m3u8*", "*.mp3*"));
+        
+        // 광고/추적 호스트
+        private List<String> blockedHosts = new ArrayList<>(List.of(
+                "doubleclick.net", "googlesyndication.com", "googleadservices.com", "google-analytics.com",
+                "googletagmanager.com", "adservice.google.com", "facebook.net", "scorecardresearch.com",
+                "criteo.com", "criteo.net", "taboola.com", "outbrain.com", "adnxs.com",
+                "dable.io", "mobon.net", "realssp.co.kr"));
+    }
+    
+    /**
+     * 저장된 URL 지문 인덱스 설정
+     */
+    @Data
+    public static class Dedup {
+        
+        // 블룸 필터/해시 집합의 초기 크기 (초과하면 자동으로 커짐)
+        private long expectedUrls = 1_000_000;
+        
+        private double falsePositiveRate = 0.01;
+        
+        // true이면 인덱스가 "이미 저장됨"으로 판단한 URL을 DB에서 한 번 더 확인
+        private boolean verifyPositives = false;
+    }
+    
+    /**
+     * 호스트별 추출 셀렉터 학습 설정
+     */
+    @Data
+    public static class Extraction {
+        
+        // 학습한 셀렉터의 성공률을 계산할 최근 시도 수 (최대 64)
+        private int window = 20;
+        
+        // 성공률을 판단하기 전 필요한 최소 시도 수
+        private int minSamples = 10;
+        
+        // 최근 성공률이 이 값보다 낮아지면 셀렉터를 다시 학습
+        private double minSuccessRate = 0.7;
+    }
+    
+    /**
+     * 결과가 적은 검색어를 OR 검색 하나로 묶어 요청하는 설정
+     * 묶음 검색 결과는 제목/요약에 언급된 검색어의 키워드로 나누어 연결합니다.
+     */
+    @Data
+    public static class Packing {
+        
+        private boolean enabled = false;
+        
+        // 최근 실행의 평균(EWMA) 신규 기사 수가 이 값 이하인 검색어만 묶음
+        private double lowYieldThreshold = 1.0;
+        
+        // 결과가 적다고 판단하기 전 필요한 최소 실행 수
+        private int minRuns = 3;
+        
+        // 평균 신규 기사 수 계산의 최근 실행 가중치 (0~1)
+        private double smoothing = 0.3;
+        
+        private int maxTermsPerQuery = 8;
+        
+        // 검색 한 번으로 받을 수 있는 신규 결과 수 (검색 결과 페이지 크기, RSS는 읽기를 멈추는 신규 후보 수)
+        // 묶음 검색의 신규 결과가 이만큼이면 결과가 잘렸을 수 있으므로 묶인 검색어를 다시 따로 검색
+        private int defaultPageCapacity = 10;
+        
+        // 다시 나눈 검색어를 따로 검색할 실행 수
+        private int resplitRuns = 6;
+        
+        // 검색 URL 호스트별 OR 연산자와 검색어 최대 길이 (지정하지 않은 호스트는 아래 기본값)
+        private Map<String, PackingHost> hosts = new HashMap<>();
+        
+        private String defaultOrOperator = " OR ";
+        
+        private int defaultMaxQueryLength = 100;
+    }
+    
+    /**
+     * (키워드 검색어, 사이트)별 적응형 수집 주기 설정
+     * 스케줄러는 tick마다 실행되어 다음 수집 시각이 된 대상만 검색합니다.
+     * 수집 주기는 시간당 신규 기사 도착률로 정하며, 한 번 검색할 때 target-articles-per-poll개 정도가 새로 나오도록 합니다.
+     */
+    @Data
+    public static class Polling {
+        
+        // false면 tick마다 모든 대상을 검색
+        private boolean enabled = true;
+        
+        // 수집할 대상을 확인하는 스케줄 주기 (이전 실행이 끝난 뒤부터)
+        private Duration tick = Duration.ofMinutes(1);
+        
+        private Duration minInterval = Duration.ofMinutes(2);
+        
+        private Duration maxInterval = Duration.ofHours(2);
+        
+        // 도착률을 추정하기 전(처음 두 번의 검색)까지 사용하는 주기
+        private Duration initialInterval = Duration.ofMinutes(10);
+        
+        private double targetArticlesPerPoll = 2.0;
+        
+        // 도착률 계산의 최근 검색 가중치 (0~1)
+        private double smoothing = 0.3;
+    }
+    
+    @Data
+    public static class PackingHost {
+        
+        private String orOperator;
+        private int maxQueryLength;
+        private int pageCapacity;
+    }
+    
+    @Data
+    public static class HostLimit {
+        
+        private double requestsPerSecond;
+        private int maxConcurrent;
+    }
+    
+    @Data
+    public static class Stage {
+        
+        private int concurrency;
+        private int queueCapacity;
+        
+        public Stage() {
+        }
+        
+        public Stage(int concurrency, int queueCapacity) {
+            this.concurrency = concurrency;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
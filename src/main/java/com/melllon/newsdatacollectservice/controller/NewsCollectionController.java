@@ -1,14 +1,19 @@
 package com.melllon.newsdatacollectservice.controller;
 
 import com.melllon.newsdatacollectservice.dto.response.ApiResponse;
+import com.melllon.newsdatacollectservice.dto.response.FetchHostStatsResponse;
+import com.melllon.newsdatacollectservice.dto.response.SingleFlightStatsResponse;
 import com.melllon.newsdatacollectservice.service.NewsCollectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/news-collection")
 @RequiredArgsConstructor
@@ -43,4 +48,52 @@ public class NewsCollectionController {
                             .build());
         }
     }
+    
+    /**
+     * 호스트별 외부 요청 예산 현황(대기 시간 포함)을 조회합니다.
+     */
+    @GetMapping("/fetch-stats")
+    public ResponseEntity<ApiResponse<List<FetchHostStatsResponse>>> getFetchHostStats() {
+        try {
+            List<FetchHostStatsResponse> stats = newsCollectionService.getFetchHostStats();
+            
+            return ResponseEntity.ok(ApiResponse.<List<FetchHostStatsResponse>>builder()
+                    .success(true)
+                    .message("호스트별 요청 현황을 조회했습니다.")
+                    .data(stats)
+                    .build());
+        } catch (Exception e) {
+            log.error("호스트별 요청 현황 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<List<FetchHostStatsResponse>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .data(null)
+                            .build());
+        }
+    }
+    
+    /**
+     * 여러 검색어가 같은 기사를 동시에 찾았을 때 본문 요청을 합친 현황을 조회합니다.
+     */
+    @GetMapping("/single-flight-stats")
+    public ResponseEntity<ApiResponse<SingleFlightStatsResponse>> getSingleFlightStats() {
+        try {
+            SingleFlightStatsResponse stats = newsCollectionService.getSingleFlightStats();
+            
+            return ResponseEntity.ok(ApiResponse.<SingleFlightStatsResponse>builder()
+                    .success(true)
+                    .message("기사 본문 요청 합치기 현황을 조회했습니다.")
+                    .data(stats)
+                    .build());
+        } catch (Exception e) {
+            log.error("기사 본문 요청 합치기 현황 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<SingleFlightStatsResponse>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .data(null)
+                            .build());
+        }
+    }
 } 
\ No newline at end of file
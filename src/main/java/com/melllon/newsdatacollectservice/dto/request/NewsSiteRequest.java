@@ -2,6 +2,7 @@ package com.melllon.newsdatacollectservice.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +24,10 @@ public class NewsSiteRequest {
     
     @NotBlank(message = "검색 URL 패턴은 필수입니다.")
     private String searchUrlPattern;
+    
+    @Positive(message = "초당 요청 수는 0보다 커야 합니다.")
+    private Double requestsPerSecond;
+    
+    @Positive(message = "동시 요청 수는 0보다 커야 합니다.")
+    private Integer maxConcurrentRequests;
 } 
\ No newline at end of file
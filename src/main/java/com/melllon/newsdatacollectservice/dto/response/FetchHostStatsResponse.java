@@ -0,0 +1,22 @@
+package com.melllon.newsdatacollectservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FetchHostStatsResponse {
+    
+    private String host;
+    private double requestsPerSecond;
+    private int maxConcurrent;
+    private long requestCount;
+    private int inFlight;
+    private int queueLength;
+    private double averageWaitMillis;
+    private double maxWaitMillis;
+}
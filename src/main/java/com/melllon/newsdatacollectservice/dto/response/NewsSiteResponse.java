@@ -17,6 +17,8 @@ public class NewsSiteResponse {
     private String name;
     private String baseUrl;
     private String searchUrlPattern;
+    private Double requestsPerSecond;
+    private Integer maxConcurrentRequests;
     private Boolean isActive;
     private LocalDateTime createdAt;
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.melllon.newsdatacollectservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SingleFlightStatsResponse {
+    
+    private long hitCount;
+    private long missCount;
+    private int inFlight;
+    private double hitRate;
+}
@@ -0,0 +1,48 @@
+package com.melllon.newsdatacollectservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사와 키워드의 연결
+ * 기사 본문은 URL당 한 번만 저장하고, 그 기사를 찾은 모든 키워드(사용자)는 이 테이블로 연결합니다.
+ * 키워드가 삭제되면 연결만 함께 삭제되고 기사는 남습니다.
+ */
+@Entity
+@Table(name = "article_keywords", indexes = {
+        @Index(name = "ux_article_keywords_article_keyword", columnList = "article_id, keyword_id", unique = true),
+        @Index(name = "ix_article_keywords_keyword_matched_at", columnList = "keyword_id, matched_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleKeyword {
+    
+    // 기사 저장과 함께 배치로 삽입하므로 시퀀스(할당 크기 50)를 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_keywords_seq")
+    @SequenceGenerator(name = "article_keywords_seq", sequenceName = "article_keywords_seq", allocationSize = 50)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private NewsArticle article;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "keyword_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Keyword keyword;
+    
+    // 키워드가 이 기사를 처음 찾은 시각 (키워드별 피드 정렬 기준)
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+}
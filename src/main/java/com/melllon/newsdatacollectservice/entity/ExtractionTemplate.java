@@ -0,0 +1,45 @@
+package com.melllon.newsdatacollectservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 호스트별로 학습한 추출 셀렉터 (예: 언론사 기사 본문, 네이버 검색 결과 목록)
+ * 재시작 후에도 셀렉터 목록을 처음부터 시도하지 않도록 저장합니다.
+ */
+@Entity
+@Table(name = "extraction_templates", indexes = {
+        @Index(name = "ux_extraction_templates_host_field", columnList = "host, field", unique = true)
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ExtractionTemplate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String host;
+    
+    // 추출 대상 (NAVER_LISTING, NAVER_TITLE, NAVER_CONTENT, ARTICLE_CONTENT)
+    @Column(nullable = false, length = 50)
+    private String field;
+    
+    @Column(nullable = false, length = 500)
+    private String selector;
+    
+    @LastModifiedDate
+    @Column(name = "learned_at", nullable = false)
+    private LocalDateTime learnedAt;
+}
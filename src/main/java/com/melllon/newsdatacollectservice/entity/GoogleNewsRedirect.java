@@ -0,0 +1,48 @@
+package com.melllon.newsdatacollectservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구글 뉴스 기사 토큰 → 실제 언론사 기사 URL 변환 결과 (한 번 변환한 토큰은 다시 변환하지 않음)
+ */
+@Entity
+@Table(name = "google_news_redirects", indexes = {
+        @Index(name = "ux_google_news_redirects_token_hash", columnList = "token_hash", unique = true)
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class GoogleNewsRedirect {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // 토큰의 64비트 해시, 조회는 긴 토큰 문자열 대신 이 값으로 수행
+    @Column(name = "token_hash", nullable = false)
+    private Long tokenHash;
+    
+    @Column(nullable = false, length = 2000)
+    private String token;
+    
+    @Column(name = "target_url", nullable = false, length = 2000)
+    private String targetUrl;
+    
+    // 변환 방법 (TOKEN, HTTP, BROWSER)
+    @Column(name = "resolved_by", nullable = false, length = 20)
+    private String resolvedBy;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
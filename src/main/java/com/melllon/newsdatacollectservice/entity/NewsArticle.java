@@ -11,16 +11,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "news_articles")
+@Table(name = "news_articles", indexes = {
+        @Index(name = "ux_news_articles_url_hash", columnList = "url_hash", unique = true)
+})
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class NewsArticle {
     
+    // IDENTITY는 Hibernate의 JDBC 배치 삽입을 막으므로 시퀀스(할당 크기 50)를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_articles_seq")
+    @SequenceGenerator(name = "news_articles_seq", sequenceName = "news_articles_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -29,9 +33,14 @@ public class NewsArticle {
     @Column(columnDefinition = "TEXT")
     private String content;
     
-    @Column(unique = true, nullable = false, length = 1000)
+    // 원래 기사 URL (본문 수집과 사용자에게 보여줄 링크, 스킴/쿼리 유지)
+    @Column(nullable = false, length = 1000)
     private String url;
     
+    // 표준 URL(UrlCanonicalizer)의 64비트 해시, 중복 판별은 긴 문자열 대신 이 값으로 수행
+    @Column(name = "url_hash", nullable = false)
+    private Long urlHash;
+    
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
     
@@ -39,10 +48,6 @@ public class NewsArticle {
     @JoinColumn(name = "news_site_id", nullable = false)
     private NewsSite newsSite;
     
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "keyword_id", nullable = false)
-    private Keyword keyword;
-    
     @Column(name = "collected_at", nullable = false)
     private LocalDateTime collectedAt;
     
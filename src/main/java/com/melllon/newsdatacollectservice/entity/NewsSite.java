@@ -32,6 +32,14 @@ public class NewsSite {
     @Column(name = "search_url_pattern", nullable = false)
     private String searchUrlPattern;
     
+    // 호스트별 초당 요청 수 제한 (null이면 기본값 사용)
+    @Column(name = "requests_per_second")
+    private Double requestsPerSecond;
+    
+    // 호스트별 동시 요청 수 제한 (null이면 기본값 사용)
+    @Column(name = "max_concurrent_requests")
+    private Integer maxConcurrentRequests;
+    
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
@@ -0,0 +1,22 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 저장 결과 (새로 저장된 기사, 이미 존재하여 건너뛴 기사 수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ArticleIngestResult {
+    
+    private final List<NewsArticle> insertedArticles;
+    private final int skippedCount;
+    
+    public int getInsertedCount() {
+        return insertedArticles.size();
+    }
+}
@@ -0,0 +1,38 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.ArticleKeyword;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleKeywordRepository extends JpaRepository<ArticleKeyword, Long> {
+    
+    @Query(value = "SELECT ak FROM ArticleKeyword ak JOIN FETCH ak.article na JOIN FETCH na.newsSite " +
+                   "JOIN FETCH ak.keyword WHERE ak.keyword.id = :keywordId ORDER BY ak.matchedAt DESC",
+           countQuery = "SELECT COUNT(ak) FROM ArticleKeyword ak WHERE ak.keyword.id = :keywordId")
+    Page<ArticleKeyword> findKeywordFeed(@Param("keywordId") Long keywordId, Pageable pageable);
+    
+    @Query("SELECT ak FROM ArticleKeyword ak JOIN FETCH ak.article na JOIN FETCH na.newsSite JOIN FETCH ak.keyword " +
+           "WHERE ak.keyword.id = :keywordId AND ak.matchedAt BETWEEN :start AND :end ORDER BY ak.matchedAt DESC")
+    List<ArticleKeyword> findByKeywordIdAndMatchedAtBetween(
+            @Param("keywordId") Long keywordId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+    
+    /**
+     * 사용자 피드에 나온 기사들이 사용자의 어떤 키워드와 연결되어 있는지 조회합니다.
+     */
+    @Query("SELECT ak FROM ArticleKeyword ak JOIN FETCH ak.keyword k " +
+           "WHERE k.user.id = :userId AND ak.article.id IN :articleIds ORDER BY ak.matchedAt")
+    List<ArticleKeyword> findByUserIdAndArticleIds(
+            @Param("userId") Long userId,
+            @Param("articleIds") Collection<Long> articleIds);
+}
@@ -0,0 +1,13 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.ExtractionTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ExtractionTemplateRepository extends JpaRepository<ExtractionTemplate, Long> {
+    
+    Optional<ExtractionTemplate> findByHostAndField(String host, String field);
+}
@@ -0,0 +1,17 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.GoogleNewsRedirect;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GoogleNewsRedirectRepository extends JpaRepository<GoogleNewsRedirect, Long> {
+    
+    Optional<GoogleNewsRedirect> findByTokenHash(Long tokenHash);
+    
+    List<GoogleNewsRedirect> findByTokenHashIn(Collection<Long> tokenHashes);
+}
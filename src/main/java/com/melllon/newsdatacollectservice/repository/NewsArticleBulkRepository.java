@@ -0,0 +1,23 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 기사 일괄 저장용 커스텀 리포지토리
+ */
+public interface NewsArticleBulkRepository {
+    
+    /**
+     * URL이 아직 없는 기사만 하나의 배치 문장으로 저장합니다. (insert-if-absent)
+     */
+    ArticleIngestResult insertIfAbsent(List<NewsArticle> articles);
+    
+    /**
+     * 저장된 기사(url_hash)를 키워드와 연결합니다. 이미 연결되어 있거나 저장되지 않은 기사는 건너뛰고, 새로 연결한 수를 반환합니다.
+     */
+    int linkKeywords(Map<Long, ? extends Collection<Long>> keywordIdsByUrlHash);
+}
@@ -0,0 +1,151 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NewsArticleBulkRepositoryImpl implements NewsArticleBulkRepository {
+    
+    // url_hash가 없을 때만 삽입 (이미 있으면 영향 행 수 0)
+    private static final String INSERT_IF_ABSENT_SQL =
+            "MERGE INTO news_articles t " +
+            "USING (VALUES (CAST(? AS BIGINT))) s(url_hash) ON t.url_hash = s.url_hash " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(id, title, content, url, url_hash, published_at, news_site_id, collected_at, created_at) " +
+            "VALUES (NEXT VALUE FOR news_articles_seq, ?, ?, ?, s.url_hash, ?, ?, ?, ?)";
+    
+    // url_hash로 기사 ID를 찾아 (기사, 키워드) 연결이 없을 때만 삽입 (기사가 없거나 이미 연결되어 있으면 영향 행 수 0)
+    private static final String LINK_IF_ABSENT_SQL =
+            "MERGE INTO article_keywords t " +
+            "USING (SELECT na.id AS article_id, CAST(? AS BIGINT) AS keyword_id FROM news_articles na WHERE na.url_hash = ?) s " +
+            "ON t.article_id = s.article_id AND t.keyword_id = s.keyword_id " +
+            "WHEN NOT MATCHED THEN INSERT (id, article_id, keyword_id, matched_at) " +
+            "VALUES (NEXT VALUE FOR article_keywords_seq, s.article_id, s.keyword_id, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public ArticleIngestResult insertIfAbsent(List<NewsArticle> articles) {
+        if (articles.isEmpty()) {
+            return new ArticleIngestResult(List.of(), 0);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int[] counts;
+        try {
+            counts = executeBatch(articles, now);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 같은 URL을 동시에 저장한 경우: 한 건씩 다시 시도하여 충돌한 건만 건너뜀
+            log.info("일괄 저장 중 URL 충돌 발생, 개별 저장으로 재시도합니다: {}", e.getMostSpecificCause().getMessage());
+            counts = executeOneByOne(articles, now);
+        }
+        
+        List<NewsArticle> inserted = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            if (counts[i] > 0) {
+                inserted.add(articles.get(i));
+            }
+        }
+        return new ArticleIngestResult(inserted, articles.size() - inserted.size());
+    }
+    
+    @Override
+    public int linkKeywords(Map<Long, ? extends Collection<Long>> keywordIdsByUrlHash) {
+        List<long[]> links = new ArrayList<>();
+        keywordIdsByUrlHash.forEach((urlHash, keywordIds) ->
+                keywordIds.forEach(keywordId -> links.add(new long[]{urlHash, keywordId})));
+        if (links.isEmpty()) {
+            return 0;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(LINK_IF_ABSENT_SQL, links, links.size(),
+                    (ps, link) -> bindLink(ps, link, now));
+            return counts.length == 0 ? 0 : countAffected(counts[0]);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 같은 연결을 동시에 저장했거나 수집 중 키워드가 삭제된 경우: 한 건씩 다시 시도하여 실패한 건만 건너뜀
+            log.info("키워드 연결 중 충돌 발생, 개별 저장으로 재시도합니다: {}", e.getMostSpecificCause().getMessage());
+            // 드라이버가 실패 이후 문장도 실행했다면 이미 반영된 연결은 세고, 실패했거나 실행되지 않은 연결만 재시도
+            int[] partial = e.getCause() instanceof BatchUpdateException batchException
+                    ? batchException.getUpdateCounts() : new int[0];
+            int linked = countAffected(partial);
+            for (int i = 0; i < links.size(); i++) {
+                if (i < partial.length && partial[i] != Statement.EXECUTE_FAILED) {
+                    continue;
+                }
+                long[] link = links.get(i);
+                try {
+                    linked += jdbcTemplate.update(LINK_IF_ABSENT_SQL, ps -> bindLink(ps, link, now));
+                } catch (DataIntegrityViolationException ignored) {
+                    // 이미 연결됨
+                }
+            }
+            return linked;
+        }
+    }
+    
+    private int[] executeBatch(List<NewsArticle> articles, LocalDateTime now) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, articles, articles.size(),
+                (ps, article) -> bind(ps, article, now));
+        return counts.length == 0 ? new int[0] : counts[0];
+    }
+    
+    // 배치가 충돌했을 때의 개별 저장 경로 (테스트에서 직접 검증)
+    int[] executeOneByOne(List<NewsArticle> articles, LocalDateTime now) {
+        int[] counts = new int[articles.size()];
+        for (int i = 0; i < articles.size(); i++) {
+            NewsArticle article = articles.get(i);
+            try {
+                counts[i] = jdbcTemplate.update(INSERT_IF_ABSENT_SQL, ps -> bind(ps, article, now));
+            } catch (DataIntegrityViolationException e) {
+                counts[i] = 0;
+            }
+        }
+        return counts;
+    }
+    
+    private void bind(PreparedStatement ps, NewsArticle article, LocalDateTime now) throws SQLException {
+        LocalDateTime collectedAt = article.getCollectedAt() != null ? article.getCollectedAt() : now;
+        long urlHash = article.getUrlHash() != null ? article.getUrlHash() : UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(article.getUrl()));
+        ps.setLong(1, urlHash);
+        ps.setString(2, article.getTitle());
+        ps.setString(3, article.getContent());
+        ps.setString(4, article.getUrl());
+        ps.setTimestamp(5, article.getPublishedAt() != null ? Timestamp.valueOf(article.getPublishedAt()) : null);
+        ps.setLong(6, article.getNewsSite().getId());
+        ps.setTimestamp(7, Timestamp.valueOf(collectedAt));
+        ps.setTimestamp(8, Timestamp.valueOf(now));
+    }
+    
+    private static void bindLink(PreparedStatement ps, long[] link, Timestamp matchedAt) throws SQLException {
+        ps.setLong(1, link[1]);
+        ps.setLong(2, link[0]);
+        ps.setTimestamp(3, matchedAt);
+    }
+    
+    private static int countAffected(int[] counts) {
+        int affected = 0;
+        for (int count : counts) {
+            // 드라이버가 건별 영향 행 수를 주지 않는 경우(SUCCESS_NO_INFO)는 연결된 것으로 간주하지 않음
+            affected += Math.max(count, 0);
+        }
+        return affected;
+    }
+}
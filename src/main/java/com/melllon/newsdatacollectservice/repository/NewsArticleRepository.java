@@ -9,24 +9,38 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>, NewsArticleBulkRepository {
     
-    Page<NewsArticle> findByKeywordIdOrderByCollectedAtDesc(Long keywordId, Pageable pageable);
+    // 기사 하나가 사용자의 여러 키워드와 연결되어 있어도 피드에는 한 번만 나옴
+    // 기사 저장 시각이 아니라 사용자의 키워드와 연결된 시각(가장 최근)으로 정렬 (다른 사용자가 먼저 저장한 기사도 연결 시점에 맨 위에 나옴)
+    @Query(value = "SELECT na FROM NewsArticle na JOIN FETCH na.newsSite WHERE EXISTS (" +
+                   "SELECT ak.id FROM ArticleKeyword ak WHERE ak.article = na AND ak.keyword.user.id = :userId) " +
+                   "ORDER BY (SELECT MAX(latest.matchedAt) FROM ArticleKeyword latest " +
+                   "WHERE latest.article = na AND latest.keyword.user.id = :userId) DESC, na.id DESC",
+           countQuery = "SELECT COUNT(na) FROM NewsArticle na WHERE EXISTS (" +
+                        "SELECT ak.id FROM ArticleKeyword ak WHERE ak.article = na AND ak.keyword.user.id = :userId)")
+    Page<NewsArticle> findUserFeed(@Param("userId") Long userId, Pageable pageable);
     
-    Page<NewsArticle> findByKeywordUserIdOrderByCollectedAtDesc(Long userId, Pageable pageable);
-    
-    @Query("SELECT na FROM NewsArticle na WHERE na.keyword.user.id = :userId " +
-           "AND na.collectedAt >= :since ORDER BY na.collectedAt DESC")
-    Page<NewsArticle> findByUserIdAndCollectedAtSince(
+    // since 이후 사용자의 키워드와 연결된 기사 (기사가 그 전에 저장되었어도 포함)
+    @Query(value = "SELECT na FROM NewsArticle na JOIN FETCH na.newsSite WHERE EXISTS (" +
+                   "SELECT ak.id FROM ArticleKeyword ak WHERE ak.article = na AND ak.keyword.user.id = :userId " +
+                   "AND ak.matchedAt >= :since) " +
+                   "ORDER BY (SELECT MAX(latest.matchedAt) FROM ArticleKeyword latest " +
+                   "WHERE latest.article = na AND latest.keyword.user.id = :userId) DESC, na.id DESC",
+           countQuery = "SELECT COUNT(na) FROM NewsArticle na WHERE EXISTS (" +
+                        "SELECT ak.id FROM ArticleKeyword ak WHERE ak.article = na AND ak.keyword.user.id = :userId " +
+                        "AND ak.matchedAt >= :since)")
+    Page<NewsArticle> findByUserIdAndMatchedAtSince(
             @Param("userId") Long userId, 
             @Param("since") LocalDateTime since, 
             Pageable pageable);
     
-    boolean existsByUrl(String url);
+    boolean existsByUrlHash(Long urlHash);
     
-    List<NewsArticle> findByKeywordIdAndCollectedAtBetween(
-            Long keywordId, LocalDateTime start, LocalDateTime end);
+    @Query("SELECT na.urlHash FROM NewsArticle na WHERE na.urlHash IN :urlHashes")
+    List<Long> findExistingUrlHashes(@Param("urlHashes") Collection<Long> urlHashes);
 } 
\ No newline at end of file
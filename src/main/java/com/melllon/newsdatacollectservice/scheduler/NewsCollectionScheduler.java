@@ -14,14 +14,15 @@ public class NewsCollectionScheduler {
     private final NewsCollectionService newsCollectionService;
     
     /**
-     * 10분마다 뉴스 수집 실행
+     * 수집 주기 확인 간격(crawler.polling.tick, 기본 1분)마다 다음 수집 시각이 된 (검색어, 사이트)만 수집
+     * 이전 실행이 끝난 뒤부터 간격을 세므로 실행이 겹치지 않습니다.
      */
-    @Scheduled(fixedRate = 600000) // 10분 = 600,000ms
+    @Scheduled(fixedDelayString = "${crawler.polling.tick:PT1M}")
     public void scheduledNewsCollection() {
         log.info("스케줄된 뉴스 수집 작업 시작");
         
         try {
-            newsCollectionService.collectNewsForAllActiveKeywords();
+            newsCollectionService.collectDueNews();
             log.info("스케줄된 뉴스 수집 작업 완료");
         } catch (Exception e) {
             log.error("스케줄된 뉴스 수집 작업 중 오류 발생: {}", e.getMessage(), e);
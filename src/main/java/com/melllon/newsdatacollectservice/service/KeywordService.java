@@ -9,8 +9,10 @@ import com.melllon.newsdatacollectservice.exception.KeywordNotFoundException;
 import com.melllon.newsdatacollectservice.exception.UserNotFoundException;
 import com.melllon.newsdatacollectservice.repository.KeywordRepository;
 import com.melllon.newsdatacollectservice.repository.UserRepository;
+import com.melllon.newsdatacollectservice.service.match.KeywordsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class KeywordService {
     
     private final KeywordRepository keywordRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public KeywordResponse createKeyword(Long userId, KeywordRequest request) {
         log.info("키워드 등록 요청: 사용자={}, 키워드={}", userId, request.getKeyword());
@@ -46,6 +49,7 @@ public class KeywordService {
                 .build();
         
         Keyword savedKeyword = keywordRepository.save(keyword);
+        eventPublisher.publishEvent(new KeywordsChangedEvent());
         log.info("키워드 등록 완료: 사용자={}, 키워드={}", userId, savedKeyword.getKeyword());
         
         return KeywordResponse.builder()
@@ -121,6 +125,7 @@ public class KeywordService {
         
         keyword.setIsActive(isActive);
         Keyword updatedKeyword = keywordRepository.save(keyword);
+        eventPublisher.publishEvent(new KeywordsChangedEvent());
         
         log.info("키워드 상태 변경 완료: {} -> {}", keyword.getKeyword(), isActive);
         
@@ -140,6 +145,7 @@ public class KeywordService {
                 .orElseThrow(() -> new KeywordNotFoundException("키워드를 찾을 수 없습니다: " + keywordId));
         
         keywordRepository.delete(keyword);
+        eventPublisher.publishEvent(new KeywordsChangedEvent());
         log.info("키워드 삭제 완료: {}", keyword.getKeyword());
     }
 } 
\ No newline at end of file
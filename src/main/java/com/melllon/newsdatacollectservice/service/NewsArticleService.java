@@ -1,21 +1,22 @@
 package com.melllon.newsdatacollectservice.service;
 
 import com.melllon.newsdatacollectservice.dto.response.NewsArticleResponse;
+import com.melllon.newsdatacollectservice.entity.ArticleKeyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.exception.UserNotFoundException;
+import com.melllon.newsdatacollectservice.repository.ArticleKeywordRepository;
 import com.melllon.newsdatacollectservice.repository.NewsArticleRepository;
 import com.melllon.newsdatacollectservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 public class NewsArticleService {
     
     private final NewsArticleRepository newsArticleRepository;
+    private final ArticleKeywordRepository articleKeywordRepository;
     private final UserRepository userRepository;
     
     /**
@@ -39,10 +41,9 @@ public class NewsArticleService {
             throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId);
         }
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "collectedAt"));
-        Page<NewsArticle> articles = newsArticleRepository.findByKeywordUserIdOrderByCollectedAtDesc(userId, pageable);
+        Page<NewsArticle> articles = newsArticleRepository.findUserFeed(userId, PageRequest.of(page, size));
         
-        return articles.map(this::convertToResponse);
+        return toUserFeedResponses(userId, articles);
     }
     
     /**
@@ -52,10 +53,10 @@ public class NewsArticleService {
     public Page<NewsArticleResponse> getKeywordNewsArticles(Long keywordId, int page, int size) {
         log.info("키워드 뉴스 아티클 조회: 키워드={}, 페이지={}, 크기={}", keywordId, page, size);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "collectedAt"));
-        Page<NewsArticle> articles = newsArticleRepository.findByKeywordIdOrderByCollectedAtDesc(keywordId, pageable);
+        // 키워드가 기사를 찾은 순서(연결 시각)로 정렬
+        Page<ArticleKeyword> links = articleKeywordRepository.findKeywordFeed(keywordId, PageRequest.of(page, size));
         
-        return articles.map(this::convertToResponse);
+        return links.map(link -> convertToResponse(link.getArticle(), link.getKeyword().getKeyword()));
     }
     
     /**
@@ -70,10 +71,11 @@ public class NewsArticleService {
             throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId);
         }
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "collectedAt"));
-        Page<NewsArticle> articles = newsArticleRepository.findByUserIdAndCollectedAtSince(userId, since, pageable);
+        // since 이후 사용자의 키워드와 연결된 기사 (다른 키워드가 먼저 저장한 기사 포함)
+        Page<NewsArticle> articles = newsArticleRepository.findByUserIdAndMatchedAtSince(
+                userId, since, PageRequest.of(page, size));
         
-        return articles.map(this::convertToResponse);
+        return toUserFeedResponses(userId, articles);
     }
     
     /**
@@ -83,17 +85,30 @@ public class NewsArticleService {
     public List<NewsArticleResponse> getNewsArticlesByPeriod(Long keywordId, LocalDateTime start, LocalDateTime end) {
         log.info("기간별 뉴스 아티클 조회: 키워드={}, 시작={}, 종료={}", keywordId, start, end);
         
-        List<NewsArticle> articles = newsArticleRepository.findByKeywordIdAndCollectedAtBetween(keywordId, start, end);
+        List<ArticleKeyword> links = articleKeywordRepository.findByKeywordIdAndMatchedAtBetween(keywordId, start, end);
         
-        return articles.stream()
-                .map(this::convertToResponse)
+        return links.stream()
+                .map(link -> convertToResponse(link.getArticle(), link.getKeyword().getKeyword()))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 사용자 피드의 기사들을 응답 DTO로 변환합니다. 키워드는 기사와 연결된 사용자의 키워드를 모두 표시합니다. (페이지당 한 번 조회)
+     */
+    private Page<NewsArticleResponse> toUserFeedResponses(Long userId, Page<NewsArticle> articles) {
+        List<Long> articleIds = articles.getContent().stream().map(NewsArticle::getId).toList();
+        Map<Long, String> keywordsByArticleId = articleIds.isEmpty() ? Map.of()
+                : articleKeywordRepository.findByUserIdAndArticleIds(userId, articleIds).stream()
+                        .collect(Collectors.groupingBy(link -> link.getArticle().getId(),
+                                Collectors.mapping(link -> link.getKeyword().getKeyword(), Collectors.joining(", "))));
+        
+        return articles.map(article -> convertToResponse(article, keywordsByArticleId.get(article.getId())));
+    }
+    
     /**
      * 뉴스 아티클을 응답 DTO로 변환합니다.
      */
-    private NewsArticleResponse convertToResponse(NewsArticle article) {
+    private NewsArticleResponse convertToResponse(NewsArticle article, String keyword) {
         return NewsArticleResponse.builder()
                 .id(article.getId())
                 .title(article.getTitle())
@@ -103,7 +118,7 @@ public class NewsArticleService {
                 .collectedAt(article.getCollectedAt())
                 .createdAt(article.getCreatedAt())
                 .newsSiteName(article.getNewsSite().getName())
-                .keyword(article.getKeyword().getKeyword())
+                .keyword(keyword)
                 .build();
     }
 } 
\ No newline at end of file
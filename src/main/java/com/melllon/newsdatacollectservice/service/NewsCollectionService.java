@@ -1,27 +1,64 @@
 package com.melllon.newsdatacollectservice.service;
 
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.dto.response.FetchHostStatsResponse;
+import com.melllon.newsdatacollectservice.dto.response.SingleFlightStatsResponse;
 import com.melllon.newsdatacollectservice.entity.Keyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.repository.ArticleIngestResult;
 import com.melllon.newsdatacollectservice.repository.KeywordRepository;
 import com.melllon.newsdatacollectservice.repository.NewsArticleRepository;
 import com.melllon.newsdatacollectservice.repository.NewsSiteRepository;
+import com.melllon.newsdatacollectservice.service.collection.ArticleFetchCoalescer;
+import com.melllon.newsdatacollectservice.service.collection.BoundedStage;
+import com.melllon.newsdatacollectservice.service.collection.CollectedArticle;
+import com.melllon.newsdatacollectservice.service.collection.CollectionPlanner;
+import com.melllon.newsdatacollectservice.service.collection.CollectionTarget;
+import com.melllon.newsdatacollectservice.service.collection.DeadlineScope;
+import com.melllon.newsdatacollectservice.service.collection.ListingPage;
+import com.melllon.newsdatacollectservice.service.collection.ListingValidatorCache;
+import com.melllon.newsdatacollectservice.service.collection.PollingPlanner;
+import com.melllon.newsdatacollectservice.service.collection.QueryPacker;
+import com.melllon.newsdatacollectservice.service.collection.ResponseValidators;
+import com.melllon.newsdatacollectservice.service.collection.ResultFingerprintCache;
+import com.melllon.newsdatacollectservice.service.collection.TermYieldTracker;
+import com.melllon.newsdatacollectservice.service.crawler.KnownUrlFilter;
 import com.melllon.newsdatacollectservice.service.crawler.NewsCrawler;
 import com.melllon.newsdatacollectservice.service.crawler.NewsCrawlerFactory;
+import com.melllon.newsdatacollectservice.service.crawler.StreamedListing;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.dedup.UrlFingerprintIndex;
+import com.melllon.newsdatacollectservice.service.fetch.FetchGateway;
+import com.melllon.newsdatacollectservice.service.fetch.HostBudget;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import com.melllon.newsdatacollectservice.service.fetch.HttpFetchClient;
+import com.melllon.newsdatacollectservice.service.fetch.SingleFlight;
+import com.melllon.newsdatacollectservice.service.match.KeywordMatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
+import org.jsoup.HttpStatusException;
 import org.jsoup.nodes.Document;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
@@ -33,9 +70,20 @@ public class NewsCollectionService {
     private final KeywordRepository keywordRepository;
     private final NewsArticleRepository newsArticleRepository;
     private final NewsCrawlerFactory crawlerFactory;
-    
-    // 병렬 처리를 위한 스레드 풀
-    private final Executor executor = Executors.newFixedThreadPool(10);
+    private final CollectionPlanner collectionPlanner;
+    private final CrawlerProperties crawlerProperties;
+    private final ExecutorService crawlExecutor;
+    private final FetchGateway fetchGateway;
+    private final HttpFetchClient httpFetchClient;
+    private final KnownUrlFilter knownUrlFilter;
+    private final UrlFingerprintIndex urlFingerprintIndex;
+    private final ListingValidatorCache listingValidatorCache;
+    private final ResultFingerprintCache resultFingerprintCache;
+    private final ArticleFetchCoalescer articleFetchCoalescer;
+    private final KeywordMatcher keywordMatcher;
+    private final QueryPacker queryPacker;
+    private final TermYieldTracker termYieldTracker;
+    private final PollingPlanner pollingPlanner;
     
     /**
      * 모든 활성 키워드에 대해 뉴스를 수집합니다.
@@ -43,6 +91,19 @@ public class NewsCollectionService {
     public void collectNewsForAllActiveKeywords() {
         log.info("전체 활성 키워드에 대한 뉴스 수집 시작");
         
+        collectActiveKeywords(false);
+        
+        log.info("전체 활성 키워드에 대한 뉴스 수집 완료");
+    }
+    
+    /**
+     * 활성 키워드 중 (검색어, 사이트)별 수집 주기상 다음 수집 시각이 된 대상만 수집합니다.
+     */
+    public void collectDueNews() {
+        collectActiveKeywords(true);
+    }
+    
+    private void collectActiveKeywords(boolean dueOnly) {
         List<Keyword> activeKeywords = keywordRepository.findByIsActiveTrue();
         List<NewsSite> activeNewsSites = newsSiteRepository.findByIsActiveTrue();
         
@@ -56,25 +117,10 @@ public class NewsCollectionService {
             return;
         }
         
-        // 각 키워드에 대해 병렬로 뉴스 수집
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        
-        for (Keyword keyword : activeKeywords) {
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                try {
-                    collectNewsForKeyword(keyword, activeNewsSites);
-                } catch (Exception e) {
-                    log.error("키워드 '{}'에 대한 뉴스 수집 중 오류 발생: {}", keyword.getKeyword(), e.getMessage());
-                }
-            }, executor);
-            
-            futures.add(future);
-        }
-        
-        // 모든 작업 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-        
-        log.info("전체 활성 키워드에 대한 뉴스 수집 완료");
+        // 사이트별 고유 검색어 단위로 수집 (결과가 적은 검색어는 OR 검색으로 묶음)
+        List<CollectionTarget> targets = collectionPlanner.plan(activeKeywords, activeNewsSites);
+        targets = dueOnly ? pollingPlanner.selectDue(targets) : pollingPlanner.markPolled(targets);
+        runPipeline(queryPacker.pack(targets));
     }
     
     /**
@@ -84,64 +130,438 @@ public class NewsCollectionService {
     public void collectNewsForKeyword(Keyword keyword, List<NewsSite> newsSites) {
         log.info("키워드 '{}'에 대한 뉴스 수집 시작", keyword.getKeyword());
         
-        for (NewsSite newsSite : newsSites) {
-            try {
-                collectNewsFromSite(keyword, newsSite);
-            } catch (Exception e) {
-                log.error("뉴스 사이트 '{}'에서 키워드 '{}' 수집 중 오류: {}", 
-                         newsSite.getName(), keyword.getKeyword(), e.getMessage());
-            }
-        }
+        runPipeline(pollingPlanner.markPolled(collectionPlanner.plan(List.of(keyword), newsSites)));
         
         log.info("키워드 '{}'에 대한 뉴스 수집 완료", keyword.getKeyword());
     }
     
     /**
-     * 특정 뉴스 사이트에서 키워드에 대한 뉴스를 수집합니다.
+     * 수집 대상들을 단계별 파이프라인(검색 -> 목록 추출 -> 본문 수집 -> 저장)으로 처리합니다.
+     * 각 단계는 독립된 작업자 수와 크기가 제한된 큐를 가지며, 하위 단계가 밀리면 상위 단계가 대기합니다.
+     */
+    private void runPipeline(List<CollectionTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        
+        CrawlerProperties.Pipeline config = crawlerProperties.getPipeline();
+        Instant runDeadline = Instant.now().plus(crawlerProperties.getDeadline().getRun());
+        
+        BoundedStage<CollectedArticle> persistStage = BoundedStage.batching("persist",
+                config.getPersist().getConcurrency(), config.getPersist().getQueueCapacity(),
+                config.getPersistBatchSize(), this::persistArticles);
+        BoundedStage<List<CollectedArticle>> enrichStage = BoundedStage.of("enrich",
+                config.getEnrich().getConcurrency(), config.getEnrich().getQueueCapacity(),
+                candidates -> enrichArticles(candidates).forEach(persistStage::submit));
+        BoundedStage<ListingPage> extractStage = BoundedStage.of("extract",
+                config.getExtract().getConcurrency(), config.getExtract().getQueueCapacity(),
+                page -> {
+                    List<CollectedArticle> candidates = extractCandidates(page);
+                    if (!candidates.isEmpty()) {
+                        enrichStage.submit(candidates);
+                    }
+                });
+        BoundedStage<CollectionTarget> searchStage = BoundedStage.of("search",
+                config.getSearch().getConcurrency(), config.getSearch().getQueueCapacity(),
+                target -> {
+                    ListingPage page = fetchListingPageWithinDeadline(target);
+                    if (page != null) {
+                        extractStage.submit(page);
+                    }
+                });
+        
+        // 상위 단계부터 순서대로 종료해야 하위 단계가 모든 입력을 받은 뒤 종료됩니다.
+        List<BoundedStage<?>> stages = List.of(searchStage, extractStage, enrichStage, persistStage);
+        stages.forEach(stage -> stage.start(crawlExecutor));
+        
+        try {
+            targets.forEach(searchStage::submit);
+            
+            for (BoundedStage<?> stage : stages) {
+                if (!stage.finishAndAwait(runDeadline)) {
+                    log.warn("뉴스 수집 실행 마감 시간({})을 초과하여 남은 작업을 취소합니다. (단계: {})",
+                             crawlerProperties.getDeadline().getRun(), stage.getName());
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("뉴스 수집 파이프라인이 인터럽트되었습니다.");
+        } finally {
+            // 정상 종료된 단계에는 영향이 없고, 마감/인터럽트 시에는 남은 작업을 정리합니다.
+            stages.forEach(BoundedStage::cancel);
+        }
+    }
+    
+    /**
+     * 수집 대상의 마감 시각 안에서 검색 결과 페이지를 가져옵니다.
+     */
+    private ListingPage fetchListingPageWithinDeadline(CollectionTarget target) {
+        Instant deadline = target.startDeadline(crawlerProperties.getDeadline().getTarget());
+        try (DeadlineScope scope = DeadlineScope.open(crawlExecutor, deadline)) {
+            return scope.call(() -> fetchListingPage(target));
+        } catch (TimeoutException e) {
+            log.warn("검색어 '{}' ({}) 검색 요청이 마감 시간을 초과하여 취소되었습니다.",
+                     target.getSearchTerm(), target.getNewsSite().getName());
+        } catch (ExecutionException e) {
+            log.error("검색어 '{}' 검색 중 오류: {}", target.getSearchTerm(), e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+    
+    /**
+     * [검색 단계] 수집 대상(사이트 + 검색어)의 검색 결과 페이지를 한 번만 가져옵니다.
      */
-    private void collectNewsFromSite(Keyword keyword, NewsSite newsSite) {
+    private ListingPage fetchListingPage(CollectionTarget target) {
+        NewsSite newsSite = target.getNewsSite();
+        String searchTerm = target.getSearchTerm();
+        
         try {
             // 검색 URL 생성
-            String searchUrl = buildSearchUrl(newsSite, keyword.getKeyword());
+            String searchUrl = buildSearchUrl(newsSite, searchTerm);
             
-            log.info("뉴스 사이트 '{}'에서 키워드 '{}' 수집 중: {}", 
-                     newsSite.getName(), keyword.getKeyword(), searchUrl);
+            log.info("뉴스 사이트 '{}'에서 검색어 '{}' 수집 중 (구독 키워드 {}개): {}",
+                     newsSite.getName(), searchTerm, target.getSubscribers().size(), searchUrl);
             
-            // 웹 페이지 크롤링
+            // 웹 페이지 크롤링 (이전 응답의 검증자가 있으면 조건부 요청)
             log.info("웹 페이지 크롤링 시작: {}", searchUrl);
-            Document doc = Jsoup.connect(searchUrl)
-                    .userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                    .timeout(15000)
-                    .get();
+            ResponseValidators previous = listingValidatorCache.get(target);
+            Map<String, String> headers = previous != null ? previous.toRequestHeaders() : Map.of();
+            FetchResponse response = fetchGateway.execute(newsSite, searchUrl,
+                    () -> httpFetchClient.getListing(searchUrl, headers));
             
-            log.info("웹 페이지 크롤링 완료. 페이지 제목: {}", doc.title());
-            log.info("페이지 HTML 길이: {} 문자", doc.html().length());
-            
-            // 적절한 크롤러 선택 및 뉴스 기사 추출
-            NewsCrawler crawler = crawlerFactory.getCrawler(newsSite);
-            List<NewsArticle> articles = crawler.extractNewsArticles(doc, newsSite, keyword);
+            if (response.getStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                log.info("검색어 '{}' ({}) 검색 결과가 이전 수집 이후 변경되지 않아 건너뜁니다. (304)",
+                         searchTerm, newsSite.getName());
+                termYieldTracker.recordUnchanged(target);
+                return null;
+            }
+            if (!response.isSuccessful()) {
+                throw new HttpStatusException("HTTP error fetching URL", response.getStatusCode(), searchUrl);
+            }
             
-            log.info("키워드 '{}'에서 {}개의 뉴스 기사를 찾았습니다.", keyword.getKeyword(), articles.size());
+            log.info("웹 페이지 크롤링 완료. 응답 크기: {} bytes", response.getBody().length);
             
-            // 중복 제거 및 저장
-            int savedCount = 0;
-            for (NewsArticle article : articles) {
-                if (!newsArticleRepository.existsByUrl(article.getUrl())) {
-                    newsArticleRepository.save(article);
-                    savedCount++;
-                    log.info("새로운 뉴스 기사 저장: {}", article.getTitle());
-                } else {
-                    log.info("중복 뉴스 기사 건너뛰기: {}", article.getTitle());
-                }
+            // RSS처럼 스트리밍으로 읽는 목록은 Document를 만들지 않음
+            NewsCrawler crawler = crawlerFactory.getCrawler(newsSite);
+            Document doc = null;
+            if (!crawler.streamsListing()) {
+                doc = response.parse();
+                log.info("페이지 제목: {}", doc.title());
             }
             
-            log.info("키워드 '{}'에서 {}개의 새로운 뉴스 기사를 저장했습니다.", keyword.getKeyword(), savedCount);
+            return new ListingPage(target, response, doc, ResponseValidators.from(response));
             
         } catch (IOException e) {
             log.error("뉴스 사이트 '{}' 크롤링 중 오류: {}", newsSite.getName(), e.getMessage(), e);
         } catch (Exception e) {
             log.error("뉴스 사이트 '{}' 처리 중 예상치 못한 오류: {}", newsSite.getName(), e.getMessage(), e);
         }
+        return null;
+    }
+    
+    /**
+     * [목록 추출 단계] 검색 결과 페이지에서 기사 후보를 추출합니다. (대표 키워드 기준으로 한 번만 수행)
+     * 이미 저장된 URL은 이 단계에서 걸러내어 본문 수집 단계로 넘기지 않습니다.
+     */
+    private List<CollectedArticle> extractCandidates(ListingPage page) {
+        CollectionTarget target = page.getTarget();
+        NewsCrawler crawler = crawlerFactory.getCrawler(target.getNewsSite());
+        if (page.getDocument() == null) {
+            return extractStreamedCandidates(page, crawler);
+        }
+        
+        // 결과 기사 URL 목록이 지난 수집과 같으면 목록 추출 이후 단계를 모두 건너뜀
+        List<String> resultUrls = crawler.listResultUrls(page.getDocument());
+        long resultFingerprint = ResultFingerprintCache.fingerprint(resultUrls);
+        if (!resultUrls.isEmpty() && resultFingerprintCache.isUnchanged(target, resultFingerprint)) {
+            log.info("검색어 '{}' ({}) 검색 결과 목록이 이전 수집과 같아 건너뜁니다. (결과 {}개)",
+                     target.getSearchTerm(), target.getNewsSite().getName(), resultUrls.size());
+            listingValidatorCache.put(target, page.getValidators());
+            termYieldTracker.recordUnchanged(target);
+            return List.of();
+        }
+        
+        List<NewsArticle> candidates = crawler.extractCandidates(page.getDocument(), target.getNewsSite());
+        
+        log.info("검색어 '{}'에서 {}개의 뉴스 기사를 찾았습니다.", target.getSearchTerm(), candidates.size());
+        
+        List<NewsArticle> unknown = knownUrlFilter.removeKnown(candidates);
+        linkKnownArticles(target, candidates, unknown);
+        page.setResultFingerprint(resultFingerprint);
+        
+        return expectPersisted(page, toCollectedArticles(page, crawler, unknown));
+    }
+    
+    /**
+     * [목록 추출 단계 - 스트리밍] 응답 본문을 item 단위로 읽으며 이미 저장된 URL은 읽는 즉시 제외합니다.
+     * 새 후보가 충분히 모이면 나머지 응답은 읽지 않습니다.
+     */
+    private List<CollectedArticle> extractStreamedCandidates(ListingPage page, NewsCrawler crawler) {
+        CollectionTarget target = page.getTarget();
+        StreamedListing listing;
+        try {
+            listing = crawler.streamCandidates(page.getResponse(), target.getNewsSite(), knownUrlFilter::isKnown);
+        } catch (IOException e) {
+            log.error("검색어 '{}' ({}) 검색 결과 해석 중 오류: {}",
+                      target.getSearchTerm(), target.getNewsSite().getName(), e.getMessage());
+            return List.of();
+        }
+        
+        long resultFingerprint = ResultFingerprintCache.fingerprint(listing.getResultUrls());
+        if (!listing.getResultUrls().isEmpty() && resultFingerprintCache.isUnchanged(target, resultFingerprint)) {
+            log.info("검색어 '{}' ({}) 검색 결과 목록이 이전 수집과 같아 건너뜁니다. (결과 {}개)",
+                     target.getSearchTerm(), target.getNewsSite().getName(), listing.getResultUrls().size());
+            listingValidatorCache.put(target, page.getValidators());
+            termYieldTracker.recordUnchanged(target);
+            return List.of();
+        }
+        
+        log.info("검색어 '{}'에서 {}개의 뉴스 기사를 찾았습니다.", target.getSearchTerm(), listing.getCandidates().size());
+        
+        // 인덱스가 준비되지 않았을 때의 DB 확인과 목록 내 중복 제거
+        List<NewsArticle> unknown = knownUrlFilter.removeKnown(listing.getCandidates());
+        List<NewsArticle> listed = new ArrayList<>(listing.getKnownArticles());
+        listed.addAll(listing.getCandidates());
+        linkKnownArticles(target, listed, unknown);
+        page.setResultFingerprint(resultFingerprint);
+        
+        return expectPersisted(page, toCollectedArticles(page, crawler, unknown));
+    }
+    
+    /**
+     * 신규 기사 후보를 다음 단계 입력으로 만들고 검색어별 신규 기사 수를 기록합니다.
+     * 묶음 검색이면 각 후보를 제목/요약에 언급된 검색어의 구독 키워드에만 연결합니다.
+     * (목록에서 찾지 못한 검색어는 저장 단계에서 본문으로 다시 확인)
+     */
+    private List<CollectedArticle> toCollectedArticles(ListingPage page, NewsCrawler crawler, List<NewsArticle> unknown) {
+        CollectionTarget target = page.getTarget();
+        if (!target.isPacked()) {
+            termYieldTracker.record(target, unknown.size(), Map.of());
+            return unknown.stream()
+                    .map(candidate -> new CollectedArticle(page, crawler, candidate))
+                    .toList();
+        }
+        
+        Map<CollectionTarget, Integer> routedCounts = new HashMap<>();
+        List<CollectedArticle> collected = new ArrayList<>(unknown.size());
+        for (NewsArticle candidate : unknown) {
+            Map<CollectionTarget, List<Keyword>> mentioned = mentionedMembers(target, candidate);
+            mentioned.keySet().forEach(member -> routedCounts.merge(member, 1, Integer::sum));
+            List<Keyword> keywords = mentioned.values().stream().flatMap(List::stream).toList();
+            collected.add(new CollectedArticle(page, crawler, candidate, keywords));
+        }
+        termYieldTracker.record(target, unknown.size(), routedCounts);
+        
+        // 신규 결과만으로 검색 한 번의 용량이 찼다면 묶인 검색어의 결과 일부를 놓쳤을 수 있음
+        if (queryPacker.isSaturated(target, unknown.size())) {
+            termYieldTracker.markSaturated(target.getMembers());
+            log.info("묶음 검색 '{}' ({}) 신규 결과가 {}개로 가득 차 검색어 {}개를 다시 따로 검색합니다.",
+                     target.getSearchTerm(), target.getNewsSite().getName(), unknown.size(), target.getMembers().size());
+        }
+        return collected;
+    }
+    
+    /**
+     * 묶음 검색 결과 기사의 제목/요약에 언급된 검색어(묶인 수집 대상)와 그 검색어의 구독 키워드
+     */
+    private Map<CollectionTarget, List<Keyword>> mentionedMembers(CollectionTarget target, NewsArticle article) {
+        Set<Long> matched = keywordMatcher.match(article.getTitle(), article.getContent());
+        Map<CollectionTarget, List<Keyword>> mentioned = new LinkedHashMap<>();
+        for (CollectionTarget member : target.getMembers()) {
+            List<Keyword> keywords = member.getSubscribers().stream()
+                    .filter(keyword -> matched.contains(keyword.getId()))
+                    .toList();
+            if (!keywords.isEmpty()) {
+                mentioned.put(member, keywords);
+            }
+        }
+        return mentioned;
+    }
+    
+    /**
+     * 페이지의 기사 후보가 모두 저장된 뒤에 응답 검증자와 결과 목록 지문을 저장하도록 후보 수를 기록합니다.
+     * 마감 시간 초과로 취소되거나 저장에 실패한 후보가 있으면 다음 수집 때 같은 결과 목록이라도 다시 처리합니다.
+     */
+    private List<CollectedArticle> expectPersisted(ListingPage page, List<CollectedArticle> collected) {
+        if (collected.isEmpty()) {
+            completeListing(page);
+        } else {
+            page.expectArticles(collected.size());
+        }
+        return collected;
+    }
+    
+    /**
+     * 처리가 끝난 응답만 다음 조건부 요청과 결과 목록 비교의 기준으로 사용합니다.
+     */
+    private void completeListing(ListingPage page) {
+        listingValidatorCache.put(page.getTarget(), page.getValidators());
+        if (page.getResultFingerprint() != null) {
+            resultFingerprintCache.put(page.getTarget(), page.getResultFingerprint());
+        }
+    }
+    
+    /**
+     * [본문 수집 단계] 검색 결과 페이지 하나의 기사 후보 본문을 동시에 수집합니다.
+     * 동시 요청 수는 호스트별 예산(FetchGateway)과 브라우저 풀이 제한하므로, 페이지 소요 시간은 가장 느린 기사 하나 정도가 됩니다.
+     * 다른 검색어에서 같은 기사의 본문을 수집 중이면 요청을 새로 보내지 않고 그 결과를 함께 사용합니다.
+     * 페이지 마감 시각(수집 대상 마감 시각을 넘지 않음)이 지나면 남은 요청을 취소하고 목록에서 얻은 내용을 그대로 사용합니다.
+     */
+    private List<CollectedArticle> enrichArticles(List<CollectedArticle> candidates) {
+        CollectionTarget target = candidates.get(0).getTarget();
+        if (target.isExpired()) {
+            log.warn("검색어 '{}' 마감 시간 초과로 기사 {}개의 본문 수집을 건너뜁니다.",
+                     target.getSearchTerm(), candidates.size());
+            return candidates;
+        }
+        
+        long start = System.currentTimeMillis();
+        Instant pageDeadline = Instant.now().plus(crawlerProperties.getDeadline().getPage());
+        Instant deadline = pageDeadline.isBefore(target.getDeadline()) ? pageDeadline : target.getDeadline();
+        
+        List<CollectedArticle> results = new ArrayList<>(candidates.size());
+        int timedOut = 0;
+        try (DeadlineScope scope = DeadlineScope.open(crawlExecutor, deadline)) {
+            List<Future<NewsArticle>> forks = candidates.stream()
+                    .map(collected -> scope.fork(() -> articleFetchCoalescer.enrich(collected)))
+                    .toList();
+            
+            for (int i = 0; i < candidates.size(); i++) {
+                CollectedArticle collected = candidates.get(i);
+                try {
+                    results.add(collected.withArticle(scope.await(forks.get(i))));
+                } catch (TimeoutException e) {
+                    timedOut++;
+                    log.warn("기사 본문 수집이 마감 시간을 초과하여 취소되었습니다: {}", collected.getArticle().getUrl());
+                    results.add(collected);
+                } catch (ExecutionException e) {
+                    log.warn("기사 본문 수집 중 오류: {} - {}", collected.getArticle().getUrl(), e.getCause().getMessage());
+                    results.add(collected);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.addAll(candidates.subList(i, candidates.size()));
+                    break;
+                }
+            }
+        }
+        
+        log.info("검색어 '{}' ({}) 기사 {}개 본문 수집 완료 ({}ms, 마감 초과 {}개)",
+                 target.getSearchTerm(), target.getNewsSite().getName(), candidates.size(),
+                 System.currentTimeMillis() - start, timedOut);
+        return results;
+    }
+    
+    /**
+     * [저장 단계] 수집된 기사를 URL당 한 번만 저장하고, 구독 중인 키워드와 기사에 언급된 키워드에 모두 연결합니다.
+     * URL이 이미 있는 기사는 DB에서 건너뛰므로 존재 여부를 따로 조회하지 않으며, 이 경우에도 키워드 연결은 추가됩니다.
+     */
+    private void persistArticles(List<CollectedArticle> batch) {
+        Map<Long, NewsArticle> articles = new LinkedHashMap<>();
+        Map<Long, Set<Long>> keywordIdsByUrlHash = new HashMap<>();
+        for (CollectedArticle collected : batch) {
+            NewsArticle article = collected.getArticle();
+            long urlHash = article.getUrlHash() != null
+                    ? article.getUrlHash() : UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(article.getUrl()));
+            Set<Long> keywordIds = keywordIdsByUrlHash.computeIfAbsent(urlHash, key -> new LinkedHashSet<>());
+            if (articles.putIfAbsent(urlHash, article) == null) {
+                // 검색한 키워드 외에도 제목/본문에 언급된 모든 활성 키워드와 연결
+                keywordIds.addAll(keywordMatcher.match(article.getTitle(), article.getContent()));
+            }
+            collected.getKeywords().forEach(keyword -> keywordIds.add(keyword.getId()));
+        }
+        
+        ArticleIngestResult result = newsArticleRepository.insertIfAbsent(new ArrayList<>(articles.values()));
+        int linked = newsArticleRepository.linkKeywords(keywordIdsByUrlHash);
+        // 새로 저장되었든 이미 있었든 이제 DB에 존재하므로 지문 인덱스에 반영
+        articles.keySet().forEach(urlFingerprintIndex::add);
+        result.getInsertedArticles().forEach(article -> log.info("새로운 뉴스 기사 저장: {}", article.getTitle()));
+        
+        log.info("저장 단계: {}개 기사 중 {}개 저장, {}개 중복 건너뛰기, 키워드 연결 {}개 추가",
+                 articles.size(), result.getInsertedCount(), result.getSkippedCount(), linked);
+        
+        for (CollectedArticle collected : batch) {
+            if (collected.getPage().articlePersisted()) {
+                completeListing(collected.getPage());
+            }
+        }
+    }
+    
+    /**
+     * 본문 수집을 건너뛴 이미 저장된 기사를 이 수집 대상의 구독 키워드와 연결합니다.
+     * (다른 키워드가 먼저 저장한 기사도 이 키워드의 피드에 나오도록 함)
+     * 묶음 검색이면 신규 기사와 같은 방식으로 제목/요약에 언급된 검색어의 구독 키워드에만 연결합니다.
+     */
+    private void linkKnownArticles(CollectionTarget target, List<NewsArticle> listed, List<NewsArticle> unknown) {
+        Set<Long> unknownHashes = new HashSet<>();
+        unknown.forEach(article -> unknownHashes.add(article.getUrlHash()));
+        Set<Long> subscriberIds = new LinkedHashSet<>();
+        target.getSubscribers().forEach(keyword -> subscriberIds.add(keyword.getId()));
+        
+        Map<Long, Set<Long>> keywordIdsByUrlHash = new HashMap<>();
+        for (NewsArticle article : listed) {
+            long urlHash = UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(article.getUrl()));
+            if (unknownHashes.contains(urlHash)) {
+                continue;
+            }
+            if (!target.isPacked()) {
+                keywordIdsByUrlHash.put(urlHash, subscriberIds);
+                continue;
+            }
+            Set<Long> keywordIds = new LinkedHashSet<>();
+            mentionedMembers(target, article).values()
+                    .forEach(keywords -> keywords.forEach(keyword -> keywordIds.add(keyword.getId())));
+            if (!keywordIds.isEmpty()) {
+                keywordIdsByUrlHash.merge(urlHash, keywordIds, (existing, added) -> {
+                    existing.addAll(added);
+                    return existing;
+                });
+            }
+        }
+        if (keywordIdsByUrlHash.isEmpty()) {
+            return;
+        }
+        
+        int linked = newsArticleRepository.linkKeywords(keywordIdsByUrlHash);
+        if (linked > 0) {
+            log.info("검색어 '{}' ({})의 이미 저장된 기사 {}건을 구독 키워드에 연결했습니다.",
+                     target.getSearchTerm(), target.getNewsSite().getName(), linked);
+        }
+    }
+    
+    /**
+     * 호스트별 외부 요청 예산 현황(요청 수, 대기 시간 등)을 조회합니다.
+     */
+    public List<FetchHostStatsResponse> getFetchHostStats() {
+        return fetchGateway.getBudgets().stream()
+                .sorted(Comparator.comparing(HostBudget::getHost))
+                .map(budget -> FetchHostStatsResponse.builder()
+                        .host(budget.getHost())
+                        .requestsPerSecond(budget.getLimits().getRequestsPerSecond())
+                        .maxConcurrent(budget.getLimits().getMaxConcurrent())
+                        .requestCount(budget.getRequestCount())
+                        .inFlight(budget.getInFlight())
+                        .queueLength(budget.getQueueLength())
+                        .averageWaitMillis(budget.getAverageWaitMillis())
+                        .maxWaitMillis(budget.getMaxWaitMillis())
+                        .build())
+                .toList();
+    }
+    
+    /**
+     * 같은 기사 본문 요청 합치기 현황(합류/직접 요청 수)을 조회합니다.
+     */
+    public SingleFlightStatsResponse getSingleFlightStats() {
+        SingleFlight<String, NewsArticle> flights = articleFetchCoalescer.getFlights();
+        long total = flights.getHitCount() + flights.getMissCount();
+        return SingleFlightStatsResponse.builder()
+                .hitCount(flights.getHitCount())
+                .missCount(flights.getMissCount())
+                .inFlight(flights.getInFlightCount())
+                .hitRate(total == 0 ? 0.0 : (double) flights.getHitCount() / total)
+                .build();
     }
     
     /**
@@ -161,4 +581,4 @@ public class NewsCollectionService {
         
         return searchUrl;
     }
-} 
\ No newline at end of file
+}
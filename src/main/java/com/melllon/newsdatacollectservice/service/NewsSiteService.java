@@ -35,6 +35,8 @@ public class NewsSiteService {
                 .name(request.getName())
                 .baseUrl(request.getBaseUrl())
                 .searchUrlPattern(request.getSearchUrlPattern())
+                .requestsPerSecond(request.getRequestsPerSecond())
+                .maxConcurrentRequests(request.getMaxConcurrentRequests())
                 .isActive(true)
                 .build();
         
@@ -46,6 +48,8 @@ public class NewsSiteService {
                 .name(savedNewsSite.getName())
                 .baseUrl(savedNewsSite.getBaseUrl())
                 .searchUrlPattern(savedNewsSite.getSearchUrlPattern())
+                .requestsPerSecond(savedNewsSite.getRequestsPerSecond())
+                .maxConcurrentRequests(savedNewsSite.getMaxConcurrentRequests())
                 .isActive(savedNewsSite.getIsActive())
                 .createdAt(savedNewsSite.getCreatedAt())
                 .build();
@@ -63,6 +67,8 @@ public class NewsSiteService {
                         .name(newsSite.getName())
                         .baseUrl(newsSite.getBaseUrl())
                         .searchUrlPattern(newsSite.getSearchUrlPattern())
+                        .requestsPerSecond(newsSite.getRequestsPerSecond())
+                        .maxConcurrentRequests(newsSite.getMaxConcurrentRequests())
                         .isActive(newsSite.getIsActive())
                         .createdAt(newsSite.getCreatedAt())
                         .build())
@@ -79,6 +85,8 @@ public class NewsSiteService {
                 .name(newsSite.getName())
                 .baseUrl(newsSite.getBaseUrl())
                 .searchUrlPattern(newsSite.getSearchUrlPattern())
+                .requestsPerSecond(newsSite.getRequestsPerSecond())
+                .maxConcurrentRequests(newsSite.getMaxConcurrentRequests())
                 .isActive(newsSite.getIsActive())
                 .createdAt(newsSite.getCreatedAt())
                 .build();
@@ -100,6 +108,8 @@ public class NewsSiteService {
                 .name(updatedNewsSite.getName())
                 .baseUrl(updatedNewsSite.getBaseUrl())
                 .searchUrlPattern(updatedNewsSite.getSearchUrlPattern())
+                .requestsPerSecond(updatedNewsSite.getRequestsPerSecond())
+                .maxConcurrentRequests(updatedNewsSite.getMaxConcurrentRequests())
                 .isActive(updatedNewsSite.getIsActive())
                 .createdAt(updatedNewsSite.getCreatedAt())
                 .build();
@@ -0,0 +1,221 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 풀에서 관리하는 크롬 프로세스(WebDriver 세션) 하나
+ * WebDriver는 스레드 안전하지 않으므로 모든 명령은 commandLock 안에서 실행합니다.
+ * 탭 전환과 명령 실행만 잠금을 잡고, 페이지 로딩을 기다리는 동안에는 잠금을 놓아 다른 탭이 사용할 수 있습니다.
+ */
+@Slf4j
+class BrowserSession {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    @Getter
+    private final int id;
+    private final WebDriver driver;
+    private final ReentrantLock commandLock = new ReentrantLock();
+    
+    // 탭(창 핸들) → DevTools 대상 ID, 성능 로그의 webview 값으로 이벤트를 탭별로 나눔
+    private final Map<String, String> targetIds = new HashMap<>();
+    private final Map<String, List<DevToolsEvent>> pendingEvents = new HashMap<>();
+    
+    private final AtomicInteger pagesServed = new AtomicInteger();
+    private final AtomicInteger liveTabs = new AtomicInteger();
+    
+    private volatile boolean broken = false;
+    private volatile boolean retiring = false;
+    private volatile Instant lastUsedAt = Instant.now();
+    private String currentHandle;
+    
+    BrowserSession(int id, WebDriver driver) {
+        this.id = id;
+        this.driver = driver;
+    }
+    
+    /**
+     * 지정한 탭으로 전환한 뒤 명령을 실행합니다.
+     */
+    <T> T execute(String windowHandle, DriverCommand<T> command) {
+        commandLock.lock();
+        try {
+            if (!windowHandle.equals(currentHandle)) {
+                driver.switchTo().window(windowHandle);
+                currentHandle = windowHandle;
+            }
+            lastUsedAt = Instant.now();
+            return command.apply(driver);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    /**
+     * 새 탭을 열고 핸들을 반환합니다. (첫 탭은 크롬 시작 시 열린 탭을 사용)
+     * 차단 URL 패턴이 있으면 DevTools 명령은 탭 단위로 적용되므로 탭마다 설정합니다.
+     */
+    @SuppressWarnings("unchecked")
+    String openTab(boolean first, List<String> blockedUrls) {
+        commandLock.lock();
+        try {
+            if (!first) {
+                driver.switchTo().newWindow(WindowType.TAB);
+            }
+            currentHandle = driver.getWindowHandle();
+            
+            if (driver instanceof HasCdp cdp) {
+                Map<String, Object> info = cdp.executeCdpCommand("Target.getTargetInfo", Map.of());
+                Map<String, Object> targetInfo = (Map<String, Object>) info.get("targetInfo");
+                targetIds.put(currentHandle, (String) targetInfo.get("targetId"));
+                if (!blockedUrls.isEmpty()) {
+                    cdp.executeCdpCommand("Network.enable", Map.of());
+                    cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrls));
+                }
+            }
+            
+            liveTabs.incrementAndGet();
+            return currentHandle;
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    /**
+     * 지정한 탭에서 마지막 호출 이후 발생한 DevTools 이벤트를 꺼냅니다.
+     * 성능 로그는 크롬 전체에서 한 번에 읽히므로, 다른 탭의 이벤트는 해당 탭이 꺼낼 때까지 보관합니다.
+     */
+    List<DevToolsEvent> drainEvents(String windowHandle) {
+        if (!supportsEvents(windowHandle)) {
+            return List.of();
+        }
+        commandLock.lock();
+        try {
+            for (LogEntry entry : driver.manage().logs().get(LogType.PERFORMANCE)) {
+                dispatch(entry.getMessage());
+            }
+            List<DevToolsEvent> events = pendingEvents.remove(targetIds.get(windowHandle));
+            return events != null ? events : List.of();
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    /**
+     * DevTools 대상 ID를 알고 있어 탭별 이벤트를 받을 수 있는지 여부
+     */
+    boolean supportsEvents(String windowHandle) {
+        return getTargetId(windowHandle) != null;
+    }
+    
+    /**
+     * 탭의 DevTools 대상 ID (크롬에서는 탭 최상위 프레임 ID와 같음)
+     */
+    String getTargetId(String windowHandle) {
+        commandLock.lock();
+        try {
+            return targetIds.get(windowHandle);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    private void dispatch(String rawMessage) {
+        try {
+            JsonNode root = OBJECT_MAPPER.readTree(rawMessage);
+            JsonNode message = root.path("message");
+            pendingEvents.computeIfAbsent(root.path("webview").asText(), key -> new ArrayList<>())
+                    .add(new DevToolsEvent(message.path("method").asText(), message.path("params")));
+        } catch (Exception e) {
+            log.debug("[브라우저 풀] 성능 로그 해석 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 오래 쓰이지 않은 세션이 아직 응답하는지 확인합니다.
+     */
+    boolean checkHealth(Duration idleThreshold) {
+        if (broken) {
+            return false;
+        }
+        if (Duration.between(lastUsedAt, Instant.now()).compareTo(idleThreshold) < 0) {
+            return true;
+        }
+        commandLock.lock();
+        try {
+            driver.getWindowHandles();
+            lastUsedAt = Instant.now();
+            return true;
+        } catch (Exception e) {
+            log.warn("[브라우저 풀] 크롬 세션 #{} 응답 없음: {}", id, e.getMessage());
+            broken = true;
+            return false;
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    /**
+     * 페이지 하나를 연 것으로 기록하고, 재시작 기준에 도달하면 더 이상 탭을 빌려주지 않도록 표시합니다.
+     */
+    void recordPage(int maxPages) {
+        if (pagesServed.incrementAndGet() >= maxPages) {
+            retiring = true;
+        }
+    }
+    
+    void markBroken() {
+        broken = true;
+    }
+    
+    boolean isUsable() {
+        return !broken && !retiring;
+    }
+    
+    /**
+     * 탭 하나를 반납하지 않고 닫은 것으로 기록합니다. 남은 탭이 없으면 true
+     */
+    boolean releaseTab() {
+        return liveTabs.decrementAndGet() <= 0;
+    }
+    
+    int getPagesServed() {
+        return pagesServed.get();
+    }
+    
+    void quit() {
+        commandLock.lock();
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.debug("[브라우저 풀] 크롬 세션 #{} 종료 중 오류: {}", id, e.getMessage());
+        } finally {
+            commandLock.unlock();
+        }
+    }
+    
+    /**
+     * 잠금 안에서 WebDriver에 실행할 명령
+     */
+    @FunctionalInterface
+    interface DriverCommand<T> {
+        T apply(WebDriver driver);
+    }
+}
@@ -0,0 +1,295 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * 오래 유지되는 헤드리스 크롬 세션 풀 (크롬 수 x 크롬당 탭 수)
+ * - 크롬 드라이버 바이너리는 시작 시 한 번만 확인/다운로드
+ * - 크롬은 필요할 때 띄우며, 정해진 페이지 수를 넘기거나 응답이 없으면 종료 후 새로 띄움
+ * - 오래 쉬었던 세션은 빌려주기 전에 응답 여부를 확인
+ */
+@Slf4j
+@Component
+public class BrowserSessionPool {
+    
+    private static final String BLANK_PAGE = "about:blank";
+    
+    private final CrawlerProperties crawlerProperties;
+    private final ExecutorService crawlExecutor;
+    private final boolean seleniumEnabled;
+    
+    private final BlockingQueue<BrowserTab> idleTabs = new LinkedBlockingQueue<>();
+    private final List<BrowserSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sessionIds = new AtomicInteger();
+    // 가상 스레드가 캐리어 스레드를 고정하지 않도록 모니터(synchronized) 대신 사용
+    // launchLock은 크롬 실행 자리 예약에만 쓰고, 수 초 걸리는 크롬 실행은 잠금 밖에서 함
+    private final ReentrantLock launchLock = new ReentrantLock();
+    private final ReentrantLock driverLock = new ReentrantLock();
+    
+    // 실행 중인(아직 sessions에 없는) 크롬 수 (launchLock으로 보호)
+    private int launching = 0;
+    
+    private volatile boolean driverResolved = false;
+    private volatile boolean closed = false;
+    
+    public BrowserSessionPool(CrawlerProperties crawlerProperties, ExecutorService crawlExecutor,
+                              @Value("${selenium.enabled:true}") boolean seleniumEnabled) {
+        this.crawlerProperties = crawlerProperties;
+        this.crawlExecutor = crawlExecutor;
+        this.seleniumEnabled = seleniumEnabled;
+    }
+    
+    /**
+     * 첫 구글 뉴스 기사를 기다리지 않도록 시작 시 드라이버 바이너리를 미리 확인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resolveDriverOnStartup() {
+        if (!seleniumEnabled) {
+            return;
+        }
+        crawlExecutor.execute(() -> {
+            try {
+                resolveDriver();
+            } catch (Exception e) {
+                log.warn("[브라우저 풀] 크롬 드라이버 확인 실패, 첫 사용 시 다시 시도합니다: {}", e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * 탭을 빌려 작업을 실행하고 반납합니다. 크롬이 죽은 경우 해당 세션은 폐기됩니다.
+     */
+    public <T> T withTab(BrowserTask<T> task) throws Exception {
+        BrowserTab tab = acquire();
+        try {
+            return task.run(tab);
+        } catch (NoSuchSessionException | NoSuchWindowException | UnreachableBrowserException e) {
+            log.warn("[브라우저 풀] 크롬 세션 #{} 비정상 종료 감지: {}", tab.getSession().getId(), e.getMessage());
+            tab.getSession().markBroken();
+            throw e;
+        } finally {
+            release(tab);
+        }
+    }
+    
+    public int getSessionCount() {
+        return sessions.size();
+    }
+    
+    public int getIdleTabCount() {
+        return idleTabs.size();
+    }
+    
+    private BrowserTab acquire() throws InterruptedException, TimeoutException {
+        CrawlerProperties.Browser config = crawlerProperties.getBrowser();
+        Instant deadline = Instant.now().plus(config.getAcquireTimeout());
+        
+        while (!closed) {
+            BrowserTab tab = idleTabs.poll();
+            if (tab == null) {
+                launchSessionIfBelowLimit();
+                long remainingMillis = Duration.between(Instant.now(), deadline).toMillis();
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                tab = idleTabs.poll(remainingMillis, TimeUnit.MILLISECONDS);
+                if (tab == null) {
+                    continue;
+                }
+            }
+            
+            BrowserSession session = tab.getSession();
+            if (session.isUsable() && session.checkHealth(config.getHealthCheckIdle())) {
+                return tab;
+            }
+            discard(tab);
+        }
+        throw new TimeoutException("크롬 탭을 " + config.getAcquireTimeout().toSeconds() + "초 안에 빌리지 못했습니다.");
+    }
+    
+    private void release(BrowserTab tab) {
+        BrowserSession session = tab.getSession();
+        session.recordPage(crawlerProperties.getBrowser().getMaxPagesPerBrowser());
+        
+        if (session.isUsable() && !closed) {
+            try {
+                // 이전 페이지의 스크립트/네트워크 활동을 멈추고 다음 작업에 넘김
+                tab.navigate(BLANK_PAGE);
+                idleTabs.offer(tab);
+                return;
+            } catch (Exception e) {
+                log.warn("[브라우저 풀] 크롬 세션 #{} 탭 초기화 실패: {}", session.getId(), e.getMessage());
+                session.markBroken();
+            }
+        }
+        discard(tab);
+    }
+    
+    /**
+     * 탭을 풀에서 제외하고, 세션의 마지막 탭이었다면 크롬을 종료합니다.
+     */
+    private void discard(BrowserTab tab) {
+        BrowserSession session = tab.getSession();
+        if (session.releaseTab() && sessions.remove(session)) {
+            log.info("[브라우저 풀] 크롬 세션 #{} 종료 (처리한 페이지 {}개)", session.getId(), session.getPagesServed());
+            session.quit();
+        }
+    }
+    
+    /**
+     * 크롬 수가 한도보다 적으면 실행 자리를 예약하고 크롬을 띄웁니다.
+     * 예약만 잠금 안에서 하므로, 크롬이 뜨는 동안 다른 요청은 이 실행을 기다리지 않고 빈 탭을 계속 기다립니다.
+     */
+    private void launchSessionIfBelowLimit() {
+        CrawlerProperties.Browser config = crawlerProperties.getBrowser();
+        launchLock.lock();
+        try {
+            if (closed || sessions.size() + launching >= config.getBrowsers()) {
+                return;
+            }
+            launching++;
+        } finally {
+            launchLock.unlock();
+        }
+        
+        try {
+            launchSession(config);
+        } finally {
+            launchLock.lock();
+            try {
+                launching--;
+            } finally {
+                launchLock.unlock();
+            }
+        }
+    }
+    
+    private void launchSession(CrawlerProperties.Browser config) {
+        resolveDriver();
+        long start = System.currentTimeMillis();
+        BrowserSession session = new BrowserSession(sessionIds.incrementAndGet(), createDriver(config));
+        sessions.add(session);
+        if (closed) {
+            // 크롬이 뜨는 사이에 풀이 닫힌 경우
+            sessions.remove(session);
+            session.quit();
+            return;
+        }
+        List<String> blockedUrls = config.getResourcePolicy().isEnabled()
+                ? blockedUrlPatterns(config.getResourcePolicy()) : List.of();
+        int openedTabs = 0;
+        try {
+            for (; openedTabs < config.getTabsPerBrowser(); openedTabs++) {
+                String handle = session.openTab(openedTabs == 0, blockedUrls);
+                idleTabs.offer(new BrowserTab(session, handle, config.getEventPollInterval()));
+            }
+        } catch (Exception e) {
+            log.warn("[브라우저 풀] 크롬 세션 #{} 탭 생성 실패: {}", session.getId(), e.getMessage());
+            session.markBroken();
+            if (openedTabs == 0) {
+                sessions.remove(session);
+                session.quit();
+                return;
+            }
+        }
+        log.info("[브라우저 풀] 크롬 세션 #{} 시작 ({}ms, 탭 {}개)",
+                 session.getId(), System.currentTimeMillis() - start, config.getTabsPerBrowser());
+    }
+    
+    private void resolveDriver() {
+        if (driverResolved) {
+            return;
+        }
+        driverLock.lock();
+        try {
+            if (!driverResolved) {
+                WebDriverManager.chromedriver().setup();
+                driverResolved = true;
+                log.info("[브라우저 풀] 크롬 드라이버 확인 완료");
+            }
+        } finally {
+            driverLock.unlock();
+        }
+    }
+    
+    private WebDriver createDriver(CrawlerProperties.Browser config) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless"); // 헤드리스 모드
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        
+        // 로딩 중인 탭에 보낸 명령이 로딩 완료까지 잠금을 잡고 기다리지 않도록 설정 (로딩 완료는 DevTools 이벤트로 판단)
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(config.getPageLoadStrategy()));
+        
+        // 이동/문서 도착/DOMContentLoaded 등 네트워크·페이지 이벤트를 성능 로그로 받음
+        LoggingPreferences loggingPreferences = new LoggingPreferences();
+        loggingPreferences.enable(LogType.PERFORMANCE, Level.ALL);
+        options.setCapability("goog:loggingPrefs", loggingPreferences);
+        options.setExperimentalOption("perfLoggingPrefs", Map.of("enableNetwork", true, "enablePage", true));
+        
+        if (config.getResourcePolicy().isEnabled()) {
+            // 이미지는 URL 패턴과 관계없이 렌더러에서 요청하지 않도록 설정
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+        
+        WebDriver driver = new ChromeDriver(options);
+        // 암묵적 대기는 명령 잠금을 잡은 채 기다리게 되어 같은 크롬의 다른 탭을 막으므로 사용하지 않음
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().pageLoadTimeout(config.getPageLoadTimeout());
+        return driver;
+    }
+    
+    /**
+     * 리소스 패턴과 광고/추적 호스트를 Network.setBlockedURLs 패턴으로 변환합니다.
+     */
+    private static List<String> blockedUrlPatterns(CrawlerProperties.ResourcePolicy policy) {
+        List<String> patterns = new ArrayList<>(policy.getBlockedUrlPatterns());
+        for (String host : policy.getBlockedHosts()) {
+            patterns.add("*://" + host + "/*");
+            patterns.add("*://*." + host + "/*");
+        }
+        return patterns;
+    }
+    
+    @PreDestroy
+    public void close() {
+        closed = true;
+        idleTabs.clear();
+        sessions.forEach(BrowserSession::quit);
+        sessions.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 풀에서 빌린 크롬 탭 하나
+ * 페이지 이동은 기다리지 않고 시작만 하며(window.location), 리다이렉트와 문서 준비는 DevTools 이벤트(성능 로그)로 판단합니다.
+ * 이벤트를 기다리는 동안에는 잠금을 놓으므로 같은 크롬의 다른 탭이 명령을 실행할 수 있습니다.
+ */
+public class BrowserTab {
+    
+    private final BrowserSession session;
+    private final String windowHandle;
+    private final Duration pollInterval;
+    
+    // drainEvents() 호출 이후 이 탭에서 받은 이벤트
+    private final List<DevToolsEvent> recordedEvents = new ArrayList<>();
+    // 조건을 만족한 최상위 문서 응답의 위치와 요청 ID
+    private int mainDocumentIndex = -1;
+    private String mainRequestId;
+    
+    BrowserTab(BrowserSession session, String windowHandle, Duration pollInterval) {
+        this.session = session;
+        this.windowHandle = windowHandle;
+        this.pollInterval = pollInterval;
+    }
+    
+    /**
+     * 페이지 이동을 시작합니다. (로딩 완료를 기다리지 않음)
+     */
+    public void navigate(String url) {
+        session.execute(windowHandle, driver -> ((JavascriptExecutor) driver)
+                .executeScript("window.location.href = arguments[0];", url));
+    }
+    
+    public String getCurrentUrl() {
+        return session.execute(windowHandle, WebDriver::getCurrentUrl);
+    }
+    
+    public String getTitle() {
+        return session.execute(windowHandle, WebDriver::getTitle);
+    }
+    
+    /**
+     * 이 탭에서 WebDriver 명령을 실행합니다. 명령이 끝날 때까지 같은 크롬의 다른 탭은 대기합니다.
+     */
+    public <T> T call(Function<WebDriver, T> command) {
+        return session.execute(windowHandle, command::apply);
+    }
+    
+    /**
+     * URL이 조건을 만족하는 최상위 문서 응답(Network.responseReceived, type=Document)이 도착할 때까지 기다리고 그 URL을 반환합니다.
+     * 자바스크립트 리다이렉트를 거치는 경우 중간 페이지의 문서 응답은 건너뜁니다.
+     */
+    public String awaitMainDocument(Predicate<String> urlCondition, Duration timeout) throws InterruptedException {
+        if (!session.supportsEvents(windowHandle)) {
+            return waitForUrl(urlCondition, timeout);
+        }
+        
+        String targetId = session.getTargetId(windowHandle);
+        Instant deadline = Instant.now().plus(timeout);
+        int scanned = 0;
+        while (true) {
+            recordedEvents.addAll(session.drainEvents(windowHandle));
+            for (; scanned < recordedEvents.size(); scanned++) {
+                DevToolsEvent event = recordedEvents.get(scanned);
+                JsonNode params = event.getParams();
+                if ("Network.responseReceived".equals(event.getMethod())
+                        && "Document".equals(params.path("type").asText())
+                        && targetId.equals(params.path("frameId").asText())) {
+                    String url = params.path("response").path("url").asText();
+                    if (urlCondition.test(url)) {
+                        mainDocumentIndex = scanned;
+                        mainRequestId = params.path("requestId").asText();
+                        return url;
+                    }
+                }
+            }
+            sleepUntilNextPoll(deadline, timeout);
+        }
+    }
+    
+    /**
+     * awaitMainDocument()로 찾은 문서가 지정한 시점에 도달할 때까지 기다립니다.
+     * stopLoading이면 DOM 구성이 끝난 뒤 남은 리소스 로딩을 중단합니다. (MAIN_DOCUMENT 시점에서는 파싱이 끊기지 않도록 중단하지 않음)
+     */
+    public void awaitReady(CrawlerProperties.ReadyEvent readyEvent, boolean stopLoading, Duration timeout)
+            throws InterruptedException {
+        if (!session.supportsEvents(windowHandle) || mainDocumentIndex < 0) {
+            waitForDocumentReady(readyEvent, timeout);
+            return;
+        }
+        
+        Instant deadline = Instant.now().plus(timeout);
+        int scanned = mainDocumentIndex + 1;
+        while (true) {
+            recordedEvents.addAll(session.drainEvents(windowHandle));
+            for (; scanned < recordedEvents.size(); scanned++) {
+                if (isReadyEvent(recordedEvents.get(scanned), readyEvent)) {
+                    if (stopLoading && readyEvent == CrawlerProperties.ReadyEvent.DOM_CONTENT_LOADED) {
+                        session.execute(windowHandle, driver -> ((JavascriptExecutor) driver).executeScript("window.stop();"));
+                    }
+                    return;
+                }
+            }
+            if (!Instant.now().isBefore(deadline) && readyEvent != CrawlerProperties.ReadyEvent.LOAD && isDomParsed()) {
+                // 이벤트를 놓친 경우에도 DOM 구성이 끝났다면 진행
+                return;
+            }
+            sleepUntilNextPoll(deadline, timeout);
+        }
+    }
+    
+    private boolean isReadyEvent(DevToolsEvent event, CrawlerProperties.ReadyEvent readyEvent) {
+        return switch (readyEvent) {
+            case MAIN_DOCUMENT -> "Network.loadingFinished".equals(event.getMethod())
+                    && mainRequestId.equals(event.getParams().path("requestId").asText());
+            case DOM_CONTENT_LOADED -> "Page.domContentEventFired".equals(event.getMethod());
+            case LOAD -> "Page.loadEventFired".equals(event.getMethod());
+        };
+    }
+    
+    /**
+     * 조건이 null이 아닌 값을 반환할 때까지 잠금 밖에서 주기적으로 확인합니다.
+     */
+    public <T> T waitUntil(Function<WebDriver, T> condition, Duration timeout) throws InterruptedException {
+        Instant deadline = Instant.now().plus(timeout);
+        while (true) {
+            T result = session.execute(windowHandle, condition::apply);
+            if (result != null) {
+                return result;
+            }
+            sleepUntilNextPoll(deadline, timeout);
+        }
+    }
+    
+    /**
+     * 마지막 호출 이후 이 탭에서 발생한 DevTools 이벤트 (대기 중 이미 읽은 이벤트 포함)
+     */
+    public List<DevToolsEvent> drainEvents() {
+        List<DevToolsEvent> events = new ArrayList<>(recordedEvents);
+        events.addAll(session.drainEvents(windowHandle));
+        recordedEvents.clear();
+        mainDocumentIndex = -1;
+        mainRequestId = null;
+        return events;
+    }
+    
+    // DevTools 이벤트를 받을 수 없는 드라이버용 (현재 URL / readyState 확인)
+    private String waitForUrl(Predicate<String> condition, Duration timeout) throws InterruptedException {
+        return waitUntil(driver -> {
+            String currentUrl = driver.getCurrentUrl();
+            return condition.test(currentUrl) ? currentUrl : null;
+        }, timeout);
+    }
+    
+    private void waitForDocumentReady(CrawlerProperties.ReadyEvent readyEvent, Duration timeout) throws InterruptedException {
+        waitUntil(driver -> {
+            Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState;");
+            boolean ready = readyEvent == CrawlerProperties.ReadyEvent.LOAD ? "complete".equals(state) : !"loading".equals(state);
+            return ready ? Boolean.TRUE : null;
+        }, timeout);
+    }
+    
+    private boolean isDomParsed() {
+        return !"loading".equals(session.execute(windowHandle,
+                driver -> ((JavascriptExecutor) driver).executeScript("return document.readyState;")));
+    }
+    
+    private void sleepUntilNextPoll(Instant deadline, Duration timeout) throws InterruptedException {
+        if (!Instant.now().isBefore(deadline)) {
+            throw new TimeoutException("탭 대기 시간(" + timeout.toSeconds() + "초)을 초과했습니다.");
+        }
+        Thread.sleep(pollInterval.toMillis());
+    }
+    
+    BrowserSession getSession() {
+        return session;
+    }
+    
+    String getWindowHandle() {
+        return windowHandle;
+    }
+}
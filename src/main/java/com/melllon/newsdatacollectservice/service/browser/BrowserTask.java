@@ -0,0 +1,10 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+/**
+ * 풀에서 빌린 탭으로 실행할 작업
+ */
+@FunctionalInterface
+public interface BrowserTask<T> {
+    
+    T run(BrowserTab tab) throws Exception;
+}
@@ -0,0 +1,16 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 크롬 성능 로그로 전달된 DevTools 이벤트 (예: Network.responseReceived, Page.loadEventFired)
+ */
+@Getter
+@RequiredArgsConstructor
+public class DevToolsEvent {
+    
+    private final String method;
+    private final JsonNode params;
+}
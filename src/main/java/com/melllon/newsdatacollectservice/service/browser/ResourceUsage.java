@@ -0,0 +1,46 @@
+package com.melllon.newsdatacollectservice.service.browser;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 페이지 하나를 여는 동안의 네트워크 사용량 (DevTools 이벤트 기준)
+ * 차단된 요청은 내려받지 않으므로 실제 크기를 알 수 없어 리소스 유형별 평균 크기로 절약량을 추정합니다.
+ */
+@Getter
+public class ResourceUsage {
+    
+    private static final Map<String, Long> AVERAGE_BYTES_BY_TYPE = Map.of(
+            "Image", 60_000L,
+            "Font", 40_000L,
+            "Media", 500_000L,
+            "Script", 80_000L,
+            "Stylesheet", 30_000L,
+            "XHR", 10_000L,
+            "Fetch", 10_000L);
+    private static final long DEFAULT_AVERAGE_BYTES = 20_000L;
+    
+    private int downloadedRequests;
+    private long downloadedBytes;
+    private int blockedRequests;
+    private long estimatedSavedBytes;
+    
+    public static ResourceUsage from(List<DevToolsEvent> events) {
+        ResourceUsage usage = new ResourceUsage();
+        for (DevToolsEvent event : events) {
+            if ("Network.loadingFinished".equals(event.getMethod())) {
+                usage.downloadedRequests++;
+                usage.downloadedBytes += event.getParams().path("encodedDataLength").asLong(0);
+            } else if ("Network.loadingFailed".equals(event.getMethod())
+                    && "inspector".equals(event.getParams().path("blockedReason").asText())) {
+                // Network.setBlockedURLs로 차단된 요청
+                usage.blockedRequests++;
+                usage.estimatedSavedBytes += AVERAGE_BYTES_BY_TYPE.getOrDefault(
+                        event.getParams().path("type").asText(), DEFAULT_AVERAGE_BYTES);
+            }
+        }
+        return usage;
+    }
+}
@@ -0,0 +1,43 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.fetch.SingleFlight;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 키워드(검색어)가 같은 기사를 동시에 찾은 경우 본문 요청(HTTP/셀레니움)을 한 번만 보냅니다.
+ * 표준 URL이 같은 본문 수집이 진행 중이면 그 결과의 본문과 URL(구글 뉴스 링크를 변환한 언론사 URL 등)을 받아 자신의 후보에 적용합니다.
+ */
+@Component
+public class ArticleFetchCoalescer {
+    
+    private final SingleFlight<String, NewsArticle> flights = new SingleFlight<>();
+    
+    public NewsArticle enrich(CollectedArticle collected) throws Exception {
+        NewsArticle candidate = collected.getArticle();
+        String canonicalUrl = UrlCanonicalizer.canonicalize(candidate.getUrl());
+        AtomicBoolean led = new AtomicBoolean();
+        NewsArticle enriched = flights.execute(canonicalUrl, () -> {
+            led.set(true);
+            return collected.getCrawler().enrich(candidate);
+        });
+        if (led.get()) {
+            return enriched;
+        }
+        // 다른 검색어의 후보로 수집된 결과라면 본문과 (변환된) URL만 가져옴 (제목/발행일 등은 자신의 목록 값 유지)
+        NewsArticle.NewsArticleBuilder builder = candidate.toBuilder()
+                .url(enriched.getUrl())
+                .urlHash(enriched.getUrlHash());
+        if (enriched.getContent() != null) {
+            builder.content(enriched.getContent());
+        }
+        return builder.build();
+    }
+    
+    public SingleFlight<String, NewsArticle> getFlights() {
+        return flights;
+    }
+}
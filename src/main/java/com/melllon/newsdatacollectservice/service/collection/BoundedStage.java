@@ -0,0 +1,147 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 제한된 입력 큐와 고정된 수의 작업자를 가진 파이프라인 단계
+ * 큐가 가득 차면 submit()이 블로킹되어 상위 단계로 배압(backpressure)이 전달됩니다.
+ */
+@Slf4j
+public class BoundedStage<T> {
+    
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    
+    private final String name;
+    private final int concurrency;
+    private final int batchSize;
+    private final BlockingQueue<T> queue;
+    private final Consumer<List<T>> handler;
+    private final CountDownLatch finished;
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    
+    private volatile boolean closed = false;
+    
+    private BoundedStage(String name, int concurrency, int queueCapacity, int batchSize, Consumer<List<T>> handler) {
+        this.name = name;
+        this.concurrency = Math.max(1, concurrency);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.handler = handler;
+        this.finished = new CountDownLatch(this.concurrency);
+    }
+    
+    /**
+     * 항목을 하나씩 처리하는 단계를 생성합니다.
+     */
+    public static <T> BoundedStage<T> of(String name, int concurrency, int queueCapacity, Consumer<T> handler) {
+        return new BoundedStage<>(name, concurrency, queueCapacity, 1, batch -> batch.forEach(handler));
+    }
+    
+    /**
+     * 큐에 쌓인 항목을 최대 batchSize개씩 묶어 처리하는 단계를 생성합니다.
+     */
+    public static <T> BoundedStage<T> batching(String name, int concurrency, int queueCapacity, int batchSize,
+                                               Consumer<List<T>> handler) {
+        return new BoundedStage<>(name, concurrency, queueCapacity, batchSize, handler);
+    }
+    
+    /**
+     * 작업자들을 시작합니다.
+     */
+    public void start(Executor executor) {
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(this::work);
+        }
+    }
+    
+    /**
+     * 항목을 단계에 전달합니다. 큐에 여유가 생길 때까지 블로킹됩니다.
+     */
+    public void submit(T item) {
+        if (closed) {
+            throw new IllegalStateException("이미 종료된 단계입니다: " + name);
+        }
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("단계 '" + name + "' 전달 중 인터럽트 발생", e);
+        }
+    }
+    
+    /**
+     * 더 이상 입력이 없음을 알리고, 큐에 남은 항목이 모두 처리될 때까지 마감 시각까지 대기합니다.
+     *
+     * @return 마감 시각 전에 모든 항목이 처리되었으면 true
+     */
+    public boolean finishAndAwait(Instant deadline) throws InterruptedException {
+        closed = true;
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        return finished.await(Math.max(0, remaining.toNanos()), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * 남은 항목을 버리고 처리 중인 작업자를 인터럽트합니다.
+     */
+    public void cancel() {
+        closed = true;
+        int dropped = queue.size();
+        queue.clear();
+        workers.forEach(Thread::interrupt);
+        if (dropped > 0) {
+            log.warn("파이프라인 단계 '{}' 취소: 대기 중이던 {}개 항목을 버렸습니다.", name, dropped);
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public int getQueuedCount() {
+        return queue.size();
+    }
+    
+    private void work() {
+        workers.add(Thread.currentThread());
+        try {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (!(closed && queue.isEmpty())) {
+                T first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                try {
+                    handler.accept(batch);
+                } catch (Exception e) {
+                    log.error("파이프라인 단계 '{}' 처리 중 오류: {}", name, e.getMessage(), e);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("파이프라인 단계 '{}' 작업자가 인터럽트되었습니다.", name);
+        } finally {
+            workers.remove(Thread.currentThread());
+            finished.countDown();
+        }
+    }
+}
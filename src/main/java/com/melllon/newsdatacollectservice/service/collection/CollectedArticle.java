@@ -0,0 +1,36 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.service.crawler.NewsCrawler;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 파이프라인 단계 사이를 이동하는 기사 (본문 수집/저장 단계 입력)
+ * keywords는 저장 시 연결할 키워드로, 보통 수집 대상의 구독 키워드이며 묶음 검색에서는 기사가 언급한 검색어의 키워드입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CollectedArticle {
+    
+    // 기사 후보를 찾은 검색 결과 페이지 (페이지의 후보가 모두 저장되면 검증자를 캐시에 저장)
+    private final ListingPage page;
+    private final NewsCrawler crawler;
+    private final NewsArticle article;
+    private final List<Keyword> keywords;
+    
+    public CollectedArticle(ListingPage page, NewsCrawler crawler, NewsArticle article) {
+        this(page, crawler, article, page.getTarget().getSubscribers());
+    }
+    
+    public CollectionTarget getTarget() {
+        return page.getTarget();
+    }
+    
+    public CollectedArticle withArticle(NewsArticle enriched) {
+        return new CollectedArticle(page, crawler, enriched, keywords);
+    }
+}
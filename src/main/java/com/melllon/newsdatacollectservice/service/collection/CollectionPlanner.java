@@ -0,0 +1,46 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 키워드를 사이트별 정규화된 검색어로 묶어 수집 계획을 세웁니다.
+ * 외부 요청 수가 구독 수가 아니라 고유 검색어 수에 비례하도록 합니다.
+ */
+@Slf4j
+@Component
+public class CollectionPlanner {
+    
+    public List<CollectionTarget> plan(List<Keyword> keywords, List<NewsSite> newsSites) {
+        Map<String, List<Keyword>> keywordsByTerm = new LinkedHashMap<>();
+        for (Keyword keyword : keywords) {
+            String normalized = SearchTermNormalizer.normalize(keyword.getKeyword());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            keywordsByTerm.computeIfAbsent(normalized, k -> new ArrayList<>()).add(keyword);
+        }
+        
+        List<CollectionTarget> targets = new ArrayList<>();
+        for (NewsSite newsSite : newsSites) {
+            for (Map.Entry<String, List<Keyword>> entry : keywordsByTerm.entrySet()) {
+                List<Keyword> subscribers = entry.getValue();
+                String searchTerm = SearchTermNormalizer.toSearchForm(subscribers.get(0).getKeyword());
+                CollectionTarget target = new CollectionTarget(newsSite, entry.getKey(), searchTerm);
+                subscribers.forEach(target::addSubscriber);
+                targets.add(target);
+            }
+        }
+        
+        log.info("수집 계획 생성: 키워드 {}개 -> 고유 검색어 {}개, 사이트 {}개, 수집 대상 {}개",
+                 keywords.size(), keywordsByTerm.size(), newsSites.size(), targets.size());
+        return targets;
+    }
+}
@@ -0,0 +1,88 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 번의 수집 실행에서 (뉴스 사이트, 정규화된 검색어) 단위로 묶인 수집 대상
+ * 같은 검색어를 구독하는 모든 키워드가 하나의 검색 결과를 공유합니다.
+ * 여러 검색어를 OR 검색 하나로 묶은 경우(묶음 검색) members에 원래 수집 대상들이 들어 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CollectionTarget {
+    
+    private final NewsSite newsSite;
+    private final String normalizedTerm;
+    private final String searchTerm;
+    private final List<Keyword> subscribers = new ArrayList<>();
+    private final List<CollectionTarget> members = new ArrayList<>();
+    
+    // 검색 단계에서 작업이 시작될 때 정해지는 마감 시각
+    private volatile Instant deadline;
+    
+    /**
+     * 같은 사이트의 수집 대상들을 하나의 OR 검색으로 묶습니다. 구독 키워드는 모든 대상의 구독 키워드입니다.
+     */
+    static CollectionTarget packed(NewsSite newsSite, List<CollectionTarget> members, String searchTerm) {
+        String normalizedTerm = "packed:" + String.join("|", members.stream().map(CollectionTarget::getNormalizedTerm).toList());
+        CollectionTarget target = new CollectionTarget(newsSite, normalizedTerm, searchTerm);
+        for (CollectionTarget member : members) {
+            target.members.add(member);
+            target.subscribers.addAll(member.getSubscribers());
+        }
+        return target;
+    }
+    
+    void addSubscriber(Keyword keyword) {
+        subscribers.add(keyword);
+    }
+    
+    public List<Keyword> getSubscribers() {
+        return Collections.unmodifiableList(subscribers);
+    }
+    
+    public List<CollectionTarget> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+    
+    public boolean isPacked() {
+        return !members.isEmpty();
+    }
+    
+    /**
+     * 이 수집 대상의 마감 시각을 시작합니다. 이미 시작된 경우 기존 마감 시각을 유지합니다.
+     */
+    public synchronized Instant startDeadline(Duration timeout) {
+        if (deadline == null) {
+            deadline = Instant.now().plus(timeout);
+        }
+        return deadline;
+    }
+    
+    public boolean isExpired() {
+        return deadline != null && !Instant.now().isBefore(deadline);
+    }
+    
+    /**
+     * 실행 간에 유지되는 캐시의 키 (뉴스 사이트 ID + 정규화된 검색어)
+     */
+    public String getCacheKey() {
+        return newsSite.getId() + ":" + normalizedTerm;
+    }
+    
+    /**
+     * 추출 단계에서 사용할 대표 키워드 (첫 번째 구독 키워드)
+     */
+    public Keyword getRepresentative() {
+        return subscribers.get(0);
+    }
+}
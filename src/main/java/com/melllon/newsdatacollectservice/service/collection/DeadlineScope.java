@@ -0,0 +1,88 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 마감 시각이 있는 구조화된 작업 범위
+ * 범위 안에서 fork한 작업은 마감 시각이 지나거나 범위가 닫히면 인터럽트로 취소됩니다.
+ * (StructuredTaskScope가 정식 API가 될 때까지 사용하는 최소 구현)
+ */
+public final class DeadlineScope implements AutoCloseable {
+    
+    private final Executor executor;
+    private final Instant deadline;
+    private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+    
+    private DeadlineScope(Executor executor, Instant deadline) {
+        this.executor = executor;
+        this.deadline = deadline;
+    }
+    
+    public static DeadlineScope open(Executor executor, Instant deadline) {
+        return new DeadlineScope(executor, deadline);
+    }
+    
+    /**
+     * 작업을 범위 안의 새 스레드에서 시작합니다.
+     */
+    public <T> Future<T> fork(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        forks.add(future);
+        executor.execute(future);
+        return future;
+    }
+    
+    /**
+     * 작업을 시작하고 마감 시각까지 결과를 기다립니다.
+     * 마감 시각을 넘기면 작업을 취소하고 TimeoutException을 던집니다.
+     */
+    public <T> T call(Callable<T> task) throws TimeoutException, InterruptedException, ExecutionException {
+        return await(fork(task));
+    }
+    
+    /**
+     * fork한 작업의 결과를 마감 시각까지 기다립니다.
+     */
+    public <T> T await(Future<T> future) throws TimeoutException, InterruptedException, ExecutionException {
+        try {
+            return future.get(remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            throw new TimeoutException("작업이 취소되었습니다.");
+        }
+    }
+    
+    public boolean isExpired() {
+        return !Instant.now().isBefore(deadline);
+    }
+    
+    public Duration remaining() {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+    
+    /**
+     * 아직 끝나지 않은 작업을 모두 취소합니다.
+     */
+    @Override
+    public void close() {
+        for (Future<?> future : forks) {
+            if (!future.isDone()) {
+                future.cancel(true);
+            }
+        }
+    }
+}
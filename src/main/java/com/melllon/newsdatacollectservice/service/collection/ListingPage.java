@@ -0,0 +1,49 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.nodes.Document;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검색 단계에서 가져온 검색 결과 페이지 (추출 단계 입력)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ListingPage {
+    
+    private final CollectionTarget target;
+    private final FetchResponse response;
+    
+    // 스트리밍으로 읽는 크롤러(RSS)의 경우 null (응답 본문을 Document로 만들지 않음)
+    private final Document document;
+    
+    // 이 응답의 검증자 (페이지의 기사 후보가 모두 저장된 뒤에 결과 목록 지문과 함께 캐시에 저장)
+    private final ResponseValidators validators;
+    
+    // 아직 저장되지 않은 기사 후보 수
+    private final AtomicInteger pendingArticles = new AtomicInteger();
+    
+    // 결과 기사 URL 목록의 지문 (목록 추출 단계에서 계산, 검증자와 함께 캐시에 저장)
+    private volatile Long resultFingerprint;
+    
+    public void setResultFingerprint(long resultFingerprint) {
+        this.resultFingerprint = resultFingerprint;
+    }
+    
+    /**
+     * 본문 수집/저장 단계로 넘길 기사 후보 수를 정합니다. (후보를 넘기기 전에 호출)
+     */
+    public void expectArticles(int count) {
+        pendingArticles.set(count);
+    }
+    
+    /**
+     * 기사 후보 하나가 저장되었음을 알립니다. 페이지의 마지막 후보이면 true
+     */
+    public boolean articlePersisted() {
+        return pendingArticles.decrementAndGet() == 0;
+    }
+}
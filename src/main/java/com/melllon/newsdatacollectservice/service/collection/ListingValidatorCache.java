@@ -0,0 +1,32 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (뉴스 사이트, 검색어)별 마지막 검색 결과 응답의 검증자 캐시
+ * 검증자는 해당 페이지의 기사 후보가 모두 저장된 뒤에 저장하므로, 취소되거나 저장에 실패한 페이지는 다음 수집 때 다시 받아옵니다.
+ */
+@Component
+public class ListingValidatorCache {
+    
+    private final Map<String, ResponseValidators> validators = new ConcurrentHashMap<>();
+    
+    public ResponseValidators get(CollectionTarget target) {
+        return validators.get(target.getCacheKey());
+    }
+    
+    public void put(CollectionTarget target, ResponseValidators responseValidators) {
+        if (responseValidators == null || responseValidators.isEmpty()) {
+            validators.remove(target.getCacheKey());
+            return;
+        }
+        validators.put(target.getCacheKey(), responseValidators);
+    }
+    
+    public int size() {
+        return validators.size();
+    }
+}
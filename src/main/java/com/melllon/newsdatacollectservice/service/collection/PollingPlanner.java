@@ -0,0 +1,93 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * (사이트, 검색어)별 신규 기사 도착률로 수집 주기를 정하고, 다음 수집 시각이 된 대상만 고릅니다.
+ * 기사가 자주 나오는 검색어는 최소 주기까지 자주, 거의 나오지 않는 검색어는 최대 주기까지 드물게 검색합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollingPlanner {
+    
+    private final CrawlerProperties crawlerProperties;
+    private final TermYieldTracker termYieldTracker;
+    
+    /**
+     * 다음 수집 시각이 된(또는 검색한 적이 없는) 대상을 골라 검색 시각을 기록합니다.
+     */
+    public List<CollectionTarget> selectDue(List<CollectionTarget> targets) {
+        if (!crawlerProperties.getPolling().isEnabled()) {
+            return markPolled(targets);
+        }
+        
+        Instant now = Instant.now();
+        List<CollectionTarget> due = new ArrayList<>();
+        Instant nextDueAt = null;
+        for (CollectionTarget target : targets) {
+            Instant dueAt = nextDueAt(target);
+            if (dueAt == null || !dueAt.isAfter(now)) {
+                due.add(target);
+            } else if (nextDueAt == null || dueAt.isBefore(nextDueAt)) {
+                nextDueAt = dueAt;
+            }
+        }
+        due.forEach(target -> termYieldTracker.markPolled(target, now));
+        
+        log.info("수집 주기 확인: 수집 대상 {}개 중 {}개 수집 (나머지 중 가장 이른 수집 예정 시각: {})",
+                 targets.size(), due.size(), nextDueAt);
+        return due;
+    }
+    
+    /**
+     * 수집 주기와 관계없이 모든 대상을 검색하는 경우(수동 수집 등)에도 검색 시각을 기록합니다.
+     */
+    public List<CollectionTarget> markPolled(List<CollectionTarget> targets) {
+        Instant now = Instant.now();
+        targets.forEach(target -> termYieldTracker.markPolled(target, now));
+        return targets;
+    }
+    
+    /**
+     * 다음 수집 시각 (검색한 적이 없으면 null)
+     */
+    public Instant nextDueAt(CollectionTarget target) {
+        Instant lastPolledAt = termYieldTracker.getLastPolledAt(target);
+        return lastPolledAt != null ? lastPolledAt.plus(intervalOf(target)) : null;
+    }
+    
+    /**
+     * 도착률로 정한 수집 주기 (최소/최대 주기 사이)
+     */
+    public Duration intervalOf(CollectionTarget target) {
+        CrawlerProperties.Polling config = crawlerProperties.getPolling();
+        Double ratePerHour = termYieldTracker.getArrivalRatePerHour(target);
+        if (ratePerHour == null) {
+            return clamp(config.getInitialInterval(), config);
+        }
+        if (ratePerHour <= 0) {
+            return config.getMaxInterval();
+        }
+        long millis = Math.round(Math.min(config.getTargetArticlesPerPoll() * 3_600_000 / ratePerHour, Long.MAX_VALUE));
+        return clamp(Duration.ofMillis(millis), config);
+    }
+    
+    private static Duration clamp(Duration interval, CrawlerProperties.Polling config) {
+        if (interval.compareTo(config.getMinInterval()) < 0) {
+            return config.getMinInterval();
+        }
+        if (interval.compareTo(config.getMaxInterval()) > 0) {
+            return config.getMaxInterval();
+        }
+        return interval;
+    }
+}
@@ -0,0 +1,132 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결과가 적은 검색어들을 사이트별로 OR 검색 하나로 묶어 검색 요청 수를 줄입니다.
+ * 묶음 검색 결과는 추출 단계에서 제목/요약에 언급된 검색어별로 나눕니다.
+ * OR 연산자와 검색어 최대 길이는 검색 URL 호스트별 설정을 따릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryPacker {
+    
+    private final CrawlerProperties crawlerProperties;
+    private final TermYieldTracker termYieldTracker;
+    
+    public List<CollectionTarget> pack(List<CollectionTarget> targets) {
+        CrawlerProperties.Packing config = crawlerProperties.getPacking();
+        if (!config.isEnabled() || config.getMaxTermsPerQuery() < 2) {
+            return targets;
+        }
+        
+        List<CollectionTarget> result = new ArrayList<>();
+        Map<NewsSite, List<CollectionTarget>> lowYieldBySite = new LinkedHashMap<>();
+        for (CollectionTarget target : targets) {
+            if (termYieldTracker.isLowYield(target)) {
+                lowYieldBySite.computeIfAbsent(target.getNewsSite(), key -> new ArrayList<>()).add(target);
+            } else {
+                result.add(target);
+            }
+        }
+        
+        int packedTerms = 0;
+        int packedQueries = 0;
+        for (Map.Entry<NewsSite, List<CollectionTarget>> entry : lowYieldBySite.entrySet()) {
+            for (CollectionTarget target : packSite(entry.getKey(), entry.getValue(), config)) {
+                result.add(target);
+                if (target.isPacked()) {
+                    packedTerms += target.getMembers().size();
+                    packedQueries++;
+                }
+            }
+        }
+        
+        if (packedQueries > 0) {
+            log.info("결과가 적은 검색어 {}개를 묶음 검색 {}개로 묶었습니다. (수집 대상 {}개 -> {}개)",
+                     packedTerms, packedQueries, targets.size(), result.size());
+        }
+        return result;
+    }
+    
+    /**
+     * 한 사이트의 검색어들을 최대 개수와 검색어 길이 제한 안에서 순서대로 채워 묶습니다.
+     */
+    private List<CollectionTarget> packSite(NewsSite newsSite, List<CollectionTarget> targets, CrawlerProperties.Packing config) {
+        CrawlerProperties.PackingHost host = hostConfigOf(newsSite, config);
+        String orOperator = host != null && host.getOrOperator() != null ? host.getOrOperator() : config.getDefaultOrOperator();
+        int maxQueryLength = host != null && host.getMaxQueryLength() > 0 ? host.getMaxQueryLength() : config.getDefaultMaxQueryLength();
+        
+        List<CollectionTarget> packed = new ArrayList<>();
+        List<CollectionTarget> group = new ArrayList<>();
+        StringBuilder query = new StringBuilder();
+        for (CollectionTarget target : targets) {
+            String term = quote(target.getSearchTerm());
+            int length = query.isEmpty() ? term.length() : query.length() + orOperator.length() + term.length();
+            if (!group.isEmpty() && (group.size() >= config.getMaxTermsPerQuery() || length > maxQueryLength)) {
+                packed.add(toTarget(newsSite, group, query.toString()));
+                group = new ArrayList<>();
+                query.setLength(0);
+            }
+            if (!query.isEmpty()) {
+                query.append(orOperator);
+            }
+            query.append(term);
+            group.add(target);
+        }
+        if (!group.isEmpty()) {
+            packed.add(toTarget(newsSite, group, query.toString()));
+        }
+        return packed;
+    }
+    
+    /**
+     * 묶음 검색의 신규 결과(검색어로 나뉘지 않은 결과 포함)가 검색 한 번의 용량만큼이면 결과가 잘렸을 수 있다고 봅니다.
+     * 이미 저장된 결과는 세지 않습니다. (RSS는 신규 후보가 용량만큼 모여야 읽기를 멈춤)
+     */
+    public boolean isSaturated(CollectionTarget target, int newResults) {
+        CrawlerProperties.Packing config = crawlerProperties.getPacking();
+        CrawlerProperties.PackingHost host = hostConfigOf(target.getNewsSite(), config);
+        int pageCapacity = host != null && host.getPageCapacity() > 0 ? host.getPageCapacity() : config.getDefaultPageCapacity();
+        return target.isPacked() && newResults >= pageCapacity;
+    }
+    
+    private static CrawlerProperties.PackingHost hostConfigOf(NewsSite newsSite, CrawlerProperties.Packing config) {
+        return config.getHosts().get(searchHostOf(newsSite));
+    }
+    
+    private static CollectionTarget toTarget(NewsSite newsSite, List<CollectionTarget> group, String query) {
+        // 혼자 남은 검색어는 원래 수집 대상 그대로 검색
+        return group.size() == 1 ? group.get(0) : CollectionTarget.packed(newsSite, group, query);
+    }
+    
+    // 공백이 있는 검색어는 OR 검색에서 하나의 구문으로 검색되도록 따옴표로 감쌈
+    private static String quote(String term) {
+        return term.indexOf(' ') >= 0 ? "\"" + term + "\"" : term;
+    }
+    
+    static String searchHostOf(NewsSite newsSite) {
+        String url = newsSite.getSearchUrlPattern() != null ? newsSite.getSearchUrlPattern() : newsSite.getBaseUrl();
+        if (url == null) {
+            return "";
+        }
+        int start = url.indexOf("://");
+        start = start >= 0 ? start + 3 : 0;
+        int end = start;
+        while (end < url.length() && "/?#:".indexOf(url.charAt(end)) < 0) {
+            end++;
+        }
+        return url.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+}
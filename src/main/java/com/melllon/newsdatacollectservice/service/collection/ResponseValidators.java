@@ -0,0 +1,42 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+
+/**
+ * 검색 결과 페이지/RSS 응답의 검증자 (ETag, Last-Modified)
+ * 다음 수집 때 조건부 요청(If-None-Match, If-Modified-Since)에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResponseValidators {
+    
+    private final String etag;
+    private final String lastModified;
+    
+    public static ResponseValidators from(FetchResponse response) {
+        return new ResponseValidators(response.header("ETag"), response.header("Last-Modified"));
+    }
+    
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+    
+    /**
+     * 조건부 요청 헤더 (If-None-Match, If-Modified-Since)
+     */
+    public Map<String, String> toRequestHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        if (etag != null) {
+            headers.put("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            headers.put("If-Modified-Since", lastModified);
+        }
+        return headers;
+    }
+}
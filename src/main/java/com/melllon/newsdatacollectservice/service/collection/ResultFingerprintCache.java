@@ -0,0 +1,42 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (뉴스 사이트, 검색어)별 마지막 검색 결과 목록의 지문 캐시
+ * 광고나 시간 표시 때문에 페이지 내용이 바뀌어도, 결과 기사 URL 목록(순서 포함)이 같으면 같은 지문이 됩니다.
+ * 지문은 해당 페이지의 기사 후보가 모두 저장된 뒤에 저장하므로, 처리가 끝나지 않은 결과 목록은 다음 수집 때 건너뛰지 않습니다.
+ */
+@Component
+public class ResultFingerprintCache {
+    
+    private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+    
+    /**
+     * 순서가 있는 결과 URL 목록의 64비트 지문 (표준 URL 기준)
+     */
+    public static long fingerprint(List<String> resultUrls) {
+        long fingerprint = resultUrls.size();
+        for (String url : resultUrls) {
+            fingerprint = fingerprint * 31 + UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(url));
+        }
+        return fingerprint;
+    }
+    
+    /**
+     * 이전 수집 때와 같은 결과 목록인지 확인합니다.
+     */
+    public boolean isUnchanged(CollectionTarget target, long fingerprint) {
+        Long previous = fingerprints.get(target.getCacheKey());
+        return previous != null && previous == fingerprint;
+    }
+    
+    public void put(CollectionTarget target, long fingerprint) {
+        fingerprints.put(target.getCacheKey(), fingerprint);
+    }
+}
@@ -0,0 +1,35 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 정규화 유틸리티
+ * 대소문자, 공백, 유니코드 조합 형태(NFC)가 달라도 같은 검색어로 취급하기 위해 사용
+ */
+public final class SearchTermNormalizer {
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private SearchTermNormalizer() {
+    }
+    
+    /**
+     * 그룹핑 키로 사용할 정규화된 검색어를 반환합니다.
+     */
+    public static String normalize(String term) {
+        return toSearchForm(term).toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 실제 검색 요청에 사용할 형태(NFC + 공백 정리)를 반환합니다.
+     */
+    public static String toSearchForm(String term) {
+        if (term == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(term, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed).replaceAll(" ").strip();
+    }
+}
@@ -0,0 +1,167 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (뉴스 사이트, 검색어)별 실행당 신규 기사 수와 시간당 신규 기사 도착률의 지수 이동 평균(EWMA)
+ * 묶음 검색의 결과는 기사에 언급된 검색어별로 나눠 각 검색어의 실적으로 기록합니다.
+ * 도착률은 직전 검색 이후 지난 시간으로 신규 기사 수를 나눈 값이며, 검색 시각은 markPolled로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TermYieldTracker {
+    
+    private final CrawlerProperties crawlerProperties;
+    
+    private final Map<String, Yield> yields = new ConcurrentHashMap<>();
+    
+    /**
+     * 이번 실행에서 찾은 신규 기사 수를 기록합니다. 묶음 검색이면 routedCounts(검색어별 신규 기사 수)로 나눠 기록합니다.
+     */
+    public void record(CollectionTarget target, int newArticles, Map<CollectionTarget, Integer> routedCounts) {
+        if (!target.isPacked()) {
+            update(target, newArticles);
+            return;
+        }
+        for (CollectionTarget member : target.getMembers()) {
+            update(member, routedCounts.getOrDefault(member, 0));
+        }
+    }
+    
+    /**
+     * 검색 결과가 바뀌지 않은 실행 (신규 기사 0개)
+     */
+    public void recordUnchanged(CollectionTarget target) {
+        record(target, 0, Map.of());
+    }
+    
+    /**
+     * 이번 실행에서 검색하는 시각을 기록합니다. 묶음 검색이면 묶인 검색어마다 기록합니다.
+     */
+    public void markPolled(CollectionTarget target, Instant polledAt) {
+        List<CollectionTarget> terms = target.isPacked() ? target.getMembers() : List.of(target);
+        for (CollectionTarget term : terms) {
+            Yield yield = yieldOf(term);
+            synchronized (yield) {
+                yield.previousPolledAt = yield.polledAt;
+                yield.polledAt = polledAt;
+            }
+        }
+    }
+    
+    /**
+     * 마지막으로 검색한 시각 (검색한 적이 없으면 null)
+     */
+    public Instant getLastPolledAt(CollectionTarget target) {
+        Yield yield = yields.get(target.getCacheKey());
+        if (yield == null) {
+            return null;
+        }
+        synchronized (yield) {
+            return yield.polledAt;
+        }
+    }
+    
+    /**
+     * 시간당 신규 기사 도착률 (두 번 이상 검색해 결과를 기록하기 전에는 null)
+     */
+    public Double getArrivalRatePerHour(CollectionTarget target) {
+        Yield yield = yields.get(target.getCacheKey());
+        if (yield == null) {
+            return null;
+        }
+        synchronized (yield) {
+            return yield.rateSamples > 0 ? yield.arrivalRatePerHour : null;
+        }
+    }
+    
+    /**
+     * 최근 실행의 신규 기사가 적어 다른 검색어와 묶어도 되는지 확인합니다.
+     */
+    public boolean isLowYield(CollectionTarget target) {
+        CrawlerProperties.Packing config = crawlerProperties.getPacking();
+        Yield yield = yields.get(target.getCacheKey());
+        if (yield == null) {
+            return false;
+        }
+        synchronized (yield) {
+            return yield.runs >= config.getMinRuns()
+                    && yield.average <= config.getLowYieldThreshold()
+                    && yield.separateRunsLeft == 0;
+        }
+    }
+    
+    /**
+     * 묶음 검색 결과가 가득 차 일부 결과를 놓쳤을 수 있으므로 검색어들을 당분간 따로 검색합니다.
+     */
+    public void markSaturated(Collection<CollectionTarget> members) {
+        int resplitRuns = crawlerProperties.getPacking().getResplitRuns();
+        for (CollectionTarget member : members) {
+            Yield yield = yieldOf(member);
+            synchronized (yield) {
+                yield.separateRunsLeft = resplitRuns;
+            }
+        }
+    }
+    
+    /**
+     * 평균 신규 기사 수 (기록이 없으면 null)
+     */
+    public Double getAverage(CollectionTarget target) {
+        Yield yield = yields.get(target.getCacheKey());
+        if (yield == null) {
+            return null;
+        }
+        synchronized (yield) {
+            return yield.average;
+        }
+    }
+    
+    private void update(CollectionTarget target, int newArticles) {
+        double smoothing = crawlerProperties.getPacking().getSmoothing();
+        Yield yield = yieldOf(target);
+        synchronized (yield) {
+            yield.average = yield.runs == 0 ? newArticles : smoothing * newArticles + (1 - smoothing) * yield.average;
+            yield.runs++;
+            if (yield.separateRunsLeft > 0) {
+                yield.separateRunsLeft--;
+            }
+            
+            if (yield.previousPolledAt != null && yield.polledAt != null && yield.polledAt.isAfter(yield.previousPolledAt)) {
+                double hours = Duration.between(yield.previousPolledAt, yield.polledAt).toMillis() / 3_600_000.0;
+                double rate = newArticles / hours;
+                double rateSmoothing = crawlerProperties.getPolling().getSmoothing();
+                yield.arrivalRatePerHour = yield.rateSamples == 0
+                        ? rate : rateSmoothing * rate + (1 - rateSmoothing) * yield.arrivalRatePerHour;
+                yield.rateSamples++;
+                // 같은 검색 구간을 두 번 세지 않도록 함
+                yield.previousPolledAt = null;
+            }
+        }
+    }
+    
+    private Yield yieldOf(CollectionTarget target) {
+        return yields.computeIfAbsent(target.getCacheKey(), key -> new Yield());
+    }
+    
+    private static final class Yield {
+        double average;
+        int runs;
+        // 묶지 않고 따로 검색할 남은 실행 수
+        int separateRunsLeft;
+        
+        double arrivalRatePerHour;
+        int rateSamples;
+        Instant polledAt;
+        Instant previousPolledAt;
+    }
+}
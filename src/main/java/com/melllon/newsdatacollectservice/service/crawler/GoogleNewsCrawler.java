@@ -1,59 +1,90 @@
 package com.melllon.newsdatacollectservice.service.crawler;
 
-import com.melllon.newsdatacollectservice.entity.Keyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 @Slf4j
 @Component
 public class GoogleNewsCrawler implements NewsCrawler {
     
+    private static final String DEFAULT_CONTENT = "구글 뉴스에서 수집된 기사입니다. 자세한 내용은 링크를 참조하세요.";
+    
+    // 테스트를 위해 10개로 제한
+    private static final int MAX_ARTICLES = 10;
+    
+    // RSS 항목마다 반복되는 셀렉터는 미리 해석해 둠
+    private static final Evaluator ITEM = QueryParser.parse("item");
+    private static final Evaluator ITEM_LINK = QueryParser.parse("item > link");
+    private static final Evaluator TITLE = QueryParser.parse("title");
+    private static final Evaluator LINK = QueryParser.parse("link");
+    private static final Evaluator PUB_DATE = QueryParser.parse("pubDate");
+    
     @Autowired
     private SeleniumGoogleNewsContentFetcher seleniumFetcher;
     
+    @Autowired
+    private GoogleNewsUrlResolver googleNewsUrlResolver;
+    
+    @Autowired
+    private HttpArticleContentFetcher httpArticleContentFetcher;
+    
     @Override
     public boolean canHandle(NewsSite newsSite) {
         return "구글 뉴스".equals(newsSite.getName());
     }
     
     @Override
-    public List<NewsArticle> extractNewsArticles(Document doc, NewsSite newsSite, Keyword keyword) {
+    public List<String> listResultUrls(Document doc) {
+        return doc.select(ITEM_LINK).eachText();
+    }
+    
+    @Override
+    public List<NewsArticle> extractCandidates(Document doc, NewsSite newsSite) {
         List<NewsArticle> articles = new ArrayList<>();
         
         try {
             log.info("구글 뉴스 RSS 피드 크롤링 시작");
             
             // RSS 피드에서 item 요소들 찾기
-            Elements items = doc.select("item");
+            Elements items = doc.select(ITEM);
             log.info("구글 뉴스 RSS에서 {}개의 기사를 찾았습니다", items.size());
             
-            // 테스트를 위해 10개로 제한
-            int maxArticles = 10;
-            int processedCount = 0;
+            int maxArticles = MAX_ARTICLES;
+            List<RssItem> listed = new ArrayList<>();
             
             for (Element item : items) {
-                if (processedCount >= maxArticles) {
+                if (listed.size() >= maxArticles) {
                     log.info("테스트를 위해 {}개 기사로 제한하여 크롤링을 중단합니다", maxArticles);
                     break;
                 }
                 
                 try {
                     // RSS에서 기본 정보 추출
-                    String title = item.select("title").text();
-                    String link = item.select("link").text();
-                    String pubDate = item.select("pubDate").text();
+                    String title = item.select(TITLE).text();
+                    String link = item.select(LINK).text();
+                    String pubDate = item.select(PUB_DATE).text();
                     
                     if (title.isEmpty() || link.isEmpty()) {
                         continue;
@@ -61,38 +92,21 @@ public class GoogleNewsCrawler implements NewsCrawler {
                     
                     log.info("구글 뉴스 RSS 기사 처리: {}", title);
                     
-                    // 셀레니움으로 실제 기사 URL 추출 및 본문 크롤링
-                    String content = crawlContentWithSelenium(link);
-                    
-                    // 셀레니움 크롤링 실패 시 기본 내용 사용
-                    if (content == null || content.isEmpty()) {
-                        content = "구글 뉴스에서 수집된 기사입니다. 자세한 내용은 링크를 참조하세요.";
-                    }
-                    
-                    // 발행일 파싱
-                    LocalDateTime publishedDate = parseRssDate(pubDate);
-                    
-                    NewsArticle article = NewsArticle.builder()
-                            .title(title)
-                            .content(content)
-                            .url(link)
-                            .publishedAt(publishedDate)
-                            .newsSite(newsSite)
-                            .keyword(keyword)
-                            .collectedAt(LocalDateTime.now())
-                            .build();
-                    
-                    articles.add(article);
-                    processedCount++;
-                    
-                    log.info("구글 뉴스 RSS 기사 추출 성공: {} (내용 길이: {} 문자)", title, content.length());
+                    listed.add(new RssItem(title, link, pubDate, null));
                     
                 } catch (Exception e) {
                     log.warn("구글 뉴스 RSS 기사 처리 중 오류: {}", e.getMessage());
                 }
             }
             
-            log.info("구글 뉴스 크롤링 완료: {}개의 기사 수집 (제한: {}개)", articles.size(), maxArticles);
+            // 이미 변환해 둔 링크는 목록 전체를 한 번에 조회
+            Map<String, String> publisherUrls = googleNewsUrlResolver.findAllResolved(
+                    listed.stream().map(RssItem::getLink).toList());
+            for (RssItem item : listed) {
+                articles.add(toCandidate(item, publisherUrls.get(item.getLink()), newsSite));
+            }
+            
+            log.info("구글 뉴스 목록 추출 완료: {}개의 기사 후보 (제한: {}개)", articles.size(), maxArticles);
             
         } catch (Exception e) {
             log.error("구글 뉴스 RSS 피드 처리 중 오류: {}", e.getMessage(), e);
@@ -101,9 +115,122 @@ public class GoogleNewsCrawler implements NewsCrawler {
         return articles;
     }
     
+    @Override
+    public boolean streamsListing() {
+        return true;
+    }
+    
+    /**
+     * RSS 응답 본문을 StAX로 item 단위로 읽습니다. 새 기사가 MAX_ARTICLES개 모이면 나머지 피드는 읽지 않습니다.
+     * 링크 변환 결과는 항목마다 조회하지 않고 MAX_ARTICLES개씩 모아 한 번에 조회한 뒤 저장 여부를 판별합니다.
+     */
+    @Override
+    public StreamedListing streamCandidates(FetchResponse response, NewsSite newsSite,
+                                            Predicate<String> isKnown) throws IOException {
+        StreamedListing listing = new StreamedListing(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        List<RssItem> pending = new ArrayList<>(MAX_ARTICLES);
+        
+        try (InputStream in = new ByteArrayInputStream(response.getBody())) {
+            int itemCount = RssStreamReader.read(in, item -> {
+                if (item.getTitle() == null || item.getTitle().isEmpty() || item.getLink() == null || item.getLink().isEmpty()) {
+                    return true;
+                }
+                pending.add(item);
+                if (pending.size() < MAX_ARTICLES) {
+                    return true;
+                }
+                classify(pending, newsSite, isKnown, listing);
+                return listing.getCandidates().size() < MAX_ARTICLES;
+            });
+            classify(pending, newsSite, isKnown, listing);
+            log.info("구글 뉴스 RSS 스트리밍 추출 완료: {}개 항목 확인, {}개의 신규 기사 후보", itemCount, listing.getCandidates().size());
+        } catch (XMLStreamException e) {
+            throw new IOException("구글 뉴스 RSS 해석 실패: " + e.getMessage(), e);
+        }
+        return listing;
+    }
+    
+    /**
+     * 모아 둔 항목의 링크 변환 결과를 한 번에 조회하고, 새 기사가 MAX_ARTICLES개가 될 때까지 저장 여부에 따라 나눕니다.
+     * 나누지 않은 항목은 결과 목록(resultUrls)에도 넣지 않습니다.
+     */
+    private void classify(List<RssItem> pending, NewsSite newsSite, Predicate<String> isKnown, StreamedListing listing) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, String> publisherUrls = googleNewsUrlResolver.findAllResolved(
+                pending.stream().map(RssItem::getLink).toList());
+        for (RssItem item : pending) {
+            if (listing.getCandidates().size() >= MAX_ARTICLES) {
+                break;
+            }
+            listing.getResultUrls().add(item.getLink());
+            NewsArticle article = toCandidate(item, publisherUrls.get(item.getLink()), newsSite);
+            (isKnown.test(article.getUrl()) ? listing.getKnownArticles() : listing.getCandidates()).add(article);
+        }
+        pending.clear();
+    }
+    
+    /**
+     * 이미 변환해 둔 링크는 목록 단계에서 바로 언론사 URL로 바꾸어, 같은 기사를 가리키는 다른 토큰도 중복으로 걸러지게 합니다.
+     */
+    private NewsArticle toCandidate(RssItem item, String publisherUrl, NewsSite newsSite) {
+        return NewsArticle.builder()
+                .title(item.getTitle())
+                .content(DEFAULT_CONTENT)
+                .url(publisherUrl != null ? publisherUrl : item.getLink())
+                .publishedAt(parseRssDate(item.getPubDate()))
+                .newsSite(newsSite)
+                .collectedAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Override
+    public NewsArticle enrich(NewsArticle candidate) {
+        String content = crawlFullContent(candidate.getUrl(), candidate.getNewsSite().getName());
+        NewsArticle resolved = withPublisherUrl(candidate);
+        
+        // 본문 크롤링 실패 시 기본 내용 유지
+        if (content == null || content.isEmpty()) {
+            return resolved;
+        }
+        return resolved.toBuilder().content(content).build();
+    }
+    
+    /**
+     * 본문 수집 중 변환된(HTTP 또는 셀레니움) 언론사 URL로 기사 URL과 해시(표준 URL 기준)를 바꿉니다.
+     * 끝내 변환하지 못한 링크만 구글 뉴스 토큰 URL로 저장합니다.
+     */
+    private NewsArticle withPublisherUrl(NewsArticle candidate) {
+        if (!GoogleNewsUrlResolver.isGoogleNewsArticleUrl(candidate.getUrl())) {
+            return candidate;
+        }
+        String publisherUrl = googleNewsUrlResolver.findResolved(candidate.getUrl());
+        if (publisherUrl == null) {
+            return candidate;
+        }
+        return candidate.toBuilder()
+                .url(publisherUrl)
+                .urlHash(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(publisherUrl)))
+                .build();
+    }
+    
+    /**
+     * 구글 뉴스 링크를 실제 기사 URL로 변환해 일반 HTTP로 본문을 가져오고, 실패한 경우에만 셀레니움을 사용합니다.
+     * 목록 단계에서 이미 언론사 URL로 바뀐 기사는 변환 없이 바로 가져옵니다.
+     */
     @Override
     public String crawlFullContent(String url, String siteName) {
-        return crawlContentWithSelenium(url);
+        String articleUrl = GoogleNewsUrlResolver.isGoogleNewsArticleUrl(url) ? googleNewsUrlResolver.resolve(url) : url;
+        if (articleUrl != null) {
+            String content = httpArticleContentFetcher.fetchContent(articleUrl);
+            if (content != null && !content.isEmpty()) {
+                log.info("구글 뉴스 기사 HTTP 수집 성공: {} ({} 문자)", articleUrl, content.length());
+                return content;
+            }
+        }
+        // 변환된 URL이 있으면 구글 뉴스를 거치지 않고 바로 기사 페이지로 이동
+        return crawlContentWithSelenium(articleUrl != null ? articleUrl : url);
     }
     
     /**
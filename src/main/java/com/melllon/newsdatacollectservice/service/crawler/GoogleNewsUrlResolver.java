@@ -0,0 +1,338 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melllon.newsdatacollectservice.entity.GoogleNewsRedirect;
+import com.melllon.newsdatacollectservice.repository.GoogleNewsRedirectRepository;
+import com.melllon.newsdatacollectservice.service.dedup.UrlHashing;
+import com.melllon.newsdatacollectservice.service.fetch.FetchGateway;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import com.melllon.newsdatacollectservice.service.fetch.HttpFetchClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 구글 뉴스 기사 링크(news.google.com/rss/articles/{토큰})를 실제 언론사 기사 URL로 변환합니다.
+ * 1. 저장된 변환 결과 조회
+ * 2. 토큰 디코딩 (구형 토큰은 base64 protobuf 안에 URL이 그대로 들어 있음)
+ * 3. HTTP 요청: 리다이렉트 Location 헤더, 중간 페이지의 링크, 중간 페이지의 서명 값으로 batchexecute 호출
+ * 모두 실패하면 null을 반환하며, 호출하는 쪽에서 브라우저로 처리한 뒤 remember()로 결과를 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleNewsUrlResolver {
+    
+    public static final String RESOLVED_BY_TOKEN = "TOKEN";
+    public static final String RESOLVED_BY_HTTP = "HTTP";
+    public static final String RESOLVED_BY_BROWSER = "BROWSER";
+    
+    private static final String ARTICLES_PATH = "/articles/";
+    private static final String BATCH_EXECUTE_URL = "https://news.google.com/_/DotsSplashUi/data/batchexecute";
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(10);
+    
+    private final GoogleNewsRedirectRepository googleNewsRedirectRepository;
+    private final HttpFetchClient httpFetchClient;
+    private final FetchGateway fetchGateway;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 구글 뉴스 링크인지 확인합니다.
+     */
+    public static boolean isGoogleNewsArticleUrl(String url) {
+        return url != null && url.contains("news.google.com") && url.contains(ARTICLES_PATH);
+    }
+    
+    /**
+     * 실제 기사 URL을 반환합니다. 브라우저 없이 변환할 수 없으면 null
+     */
+    public String resolve(String googleNewsUrl) {
+        String token = extractToken(googleNewsUrl);
+        if (token == null) {
+            return null;
+        }
+        
+        Optional<GoogleNewsRedirect> cached = googleNewsRedirectRepository.findByTokenHash(UrlHashing.hash64(token));
+        if (cached.isPresent()) {
+            return cached.get().getTargetUrl();
+        }
+        
+        String decoded = decodeToken(token);
+        if (decoded != null) {
+            remember(token, decoded, RESOLVED_BY_TOKEN);
+            return decoded;
+        }
+        
+        String resolved = resolveOverHttp(token);
+        if (resolved != null) {
+            remember(token, resolved, RESOLVED_BY_HTTP);
+            return resolved;
+        }
+        
+        log.info("구글 뉴스 링크를 HTTP로 변환하지 못해 브라우저로 처리합니다: {}", googleNewsUrl);
+        return null;
+    }
+    
+    /**
+     * 외부 요청 없이 알 수 있는 실제 기사 URL을 반환합니다. (저장된 변환 결과 또는 토큰 디코딩, 없으면 null)
+     * 토큰은 변환 결과를 찾는 키로만 쓰고, 기사는 이 URL로 저장하여 같은 기사의 다른 토큰을 중복으로 판별합니다.
+     */
+    public String findResolved(String googleNewsUrl) {
+        String token = extractToken(googleNewsUrl);
+        if (token == null) {
+            return null;
+        }
+        return googleNewsRedirectRepository.findByTokenHash(UrlHashing.hash64(token))
+                .map(GoogleNewsRedirect::getTargetUrl)
+                .orElseGet(() -> decodeToken(token));
+    }
+    
+    /**
+     * 목록의 여러 링크를 한 번의 조회로 변환합니다. (findResolved와 같은 기준, 변환할 수 있는 링크만 담은 링크 → 실제 기사 URL)
+     * RSS 항목마다 조회하지 않도록 목록 추출 단계에서 사용합니다.
+     */
+    public Map<String, String> findAllResolved(Collection<String> googleNewsUrls) {
+        Map<String, String> tokensByUrl = new LinkedHashMap<>();
+        for (String googleNewsUrl : googleNewsUrls) {
+            String token = extractToken(googleNewsUrl);
+            if (token != null) {
+                tokensByUrl.put(googleNewsUrl, token);
+            }
+        }
+        if (tokensByUrl.isEmpty()) {
+            return Map.of();
+        }
+        
+        Set<Long> tokenHashes = new HashSet<>();
+        tokensByUrl.values().forEach(token -> tokenHashes.add(UrlHashing.hash64(token)));
+        Map<Long, String> stored = new HashMap<>();
+        googleNewsRedirectRepository.findByTokenHashIn(tokenHashes)
+                .forEach(redirect -> stored.put(redirect.getTokenHash(), redirect.getTargetUrl()));
+        
+        Map<String, String> resolved = new HashMap<>();
+        tokensByUrl.forEach((googleNewsUrl, token) -> {
+            String targetUrl = stored.get(UrlHashing.hash64(token));
+            if (targetUrl == null) {
+                targetUrl = decodeToken(token);
+            }
+            if (targetUrl != null) {
+                resolved.put(googleNewsUrl, targetUrl);
+            }
+        });
+        return resolved;
+    }
+    
+    /**
+     * 다른 방법(브라우저)으로 알아낸 변환 결과를 저장합니다.
+     */
+    public void remember(String googleNewsUrl, String targetUrl) {
+        String token = extractToken(googleNewsUrl);
+        if (token != null && targetUrl != null && !isGoogleHost(targetUrl)) {
+            remember(token, targetUrl, RESOLVED_BY_BROWSER);
+        }
+    }
+    
+    private void remember(String token, String targetUrl, String resolvedBy) {
+        try {
+            googleNewsRedirectRepository.save(GoogleNewsRedirect.builder()
+                    .tokenHash(UrlHashing.hash64(token))
+                    .token(token)
+                    .targetUrl(targetUrl)
+                    .resolvedBy(resolvedBy)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 같은 토큰을 먼저 저장한 경우
+            log.debug("구글 뉴스 토큰 변환 결과가 이미 저장되어 있습니다: {}", targetUrl);
+        }
+    }
+    
+    static String extractToken(String googleNewsUrl) {
+        if (!isGoogleNewsArticleUrl(googleNewsUrl)) {
+            return null;
+        }
+        String path;
+        try {
+            path = URI.create(googleNewsUrl).getRawPath();
+        } catch (IllegalArgumentException e) {
+            // 피드의 잘못된 링크 하나 때문에 목록 전체가 실패하지 않도록 변환 대상에서 제외
+            return null;
+        }
+        if (path == null) {
+            return null;
+        }
+        int index = path.indexOf(ARTICLES_PATH);
+        if (index < 0) {
+            return null;
+        }
+        String token = path.substring(index + ARTICLES_PATH.length());
+        int slash = token.indexOf('/');
+        return slash >= 0 ? token.substring(0, slash) : token;
+    }
+    
+    /**
+     * 토큰(base64url protobuf)의 길이 지정 필드 중 http로 시작하는 값을 찾습니다.
+     * 신형 토큰(AU_yqL...)은 URL을 담고 있지 않으므로 null을 반환합니다.
+     */
+    static String decodeToken(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        
+        int position = 0;
+        while (position < bytes.length) {
+            long[] tag = readVarint(bytes, position);
+            if (tag == null) {
+                return null;
+            }
+            position = (int) tag[1];
+            int wireType = (int) (tag[0] & 0x7);
+            if (wireType == 0) {
+                long[] value = readVarint(bytes, position);
+                if (value == null) {
+                    return null;
+                }
+                position = (int) value[1];
+            } else if (wireType == 2) {
+                long[] length = readVarint(bytes, position);
+                if (length == null || length[1] + length[0] > bytes.length) {
+                    return null;
+                }
+                String value = new String(bytes, (int) length[1], (int) length[0], StandardCharsets.UTF_8);
+                if (value.startsWith("http://") || value.startsWith("https://")) {
+                    return value;
+                }
+                position = (int) (length[1] + length[0]);
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 값과 다음 위치를 반환합니다. (잘못된 형식이면 null)
+     */
+    private static long[] readVarint(byte[] bytes, int position) {
+        long value = 0;
+        int shift = 0;
+        while (position < bytes.length && shift < 64) {
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return new long[]{value, position};
+            }
+            shift += 7;
+        }
+        return null;
+    }
+    
+    private String resolveOverHttp(String token) {
+        String articleUrl = "https://news.google.com/rss/articles/" + token;
+        try {
+            FetchResponse response = fetchGateway.execute(articleUrl,
+                    () -> httpFetchClient.getWithoutRedirects(articleUrl, HTTP_TIMEOUT));
+            
+            String location = response.header("Location");
+            if (response.getStatusCode() / 100 == 3 && location != null && !isGoogleHost(location)) {
+                return location;
+            }
+            if (!response.isSuccessful()) {
+                return null;
+            }
+            
+            Document doc = response.parse();
+            String linked = findTargetLink(doc);
+            if (linked != null) {
+                return linked;
+            }
+            
+            // 중간 페이지의 서명/시각 값으로 변환 API 호출
+            Element params = doc.selectFirst("[data-n-a-sg][data-n-a-ts]");
+            if (params == null) {
+                return null;
+            }
+            return callBatchExecute(token, params.attr("data-n-a-ts"), params.attr("data-n-a-sg"));
+        } catch (Exception e) {
+            log.debug("구글 뉴스 링크 HTTP 변환 실패: {} - {}", articleUrl, e.getMessage());
+            return null;
+        }
+    }
+    
+    private String findTargetLink(Document doc) {
+        Element refresh = doc.selectFirst("meta[http-equiv=refresh][content]");
+        if (refresh != null) {
+            String content = refresh.attr("content");
+            int urlIndex = content.toLowerCase().indexOf("url=");
+            if (urlIndex >= 0) {
+                String target = content.substring(urlIndex + 4).trim();
+                if (!isGoogleHost(target)) {
+                    return target;
+                }
+            }
+        }
+        Element link = doc.selectFirst("c-wiz a[href^=http], noscript a[href^=http]");
+        if (link != null && !isGoogleHost(link.attr("href"))) {
+            return link.attr("href");
+        }
+        return null;
+    }
+    
+    private String callBatchExecute(String token, String timestamp, String signature) throws Exception {
+        String request = "[\"garturlreq\",[[\"X\",\"X\",[\"X\",\"X\"],null,null,1,1,\"US:en\",null,1,null,null,null,null,null,0,1],"
+                + "\"X\",\"X\",1,[1,1,1],1,1,null,0,0,null,0],\"" + token + "\"," + timestamp + ",\"" + signature + "\"]";
+        String payload = objectMapper.writeValueAsString(
+                new Object[]{new Object[]{new Object[]{"Fbv4je", request, null, "generic"}}});
+        String formBody = "f.req=" + URLEncoder.encode(payload, StandardCharsets.UTF_8);
+        
+        FetchResponse response = fetchGateway.execute(BATCH_EXECUTE_URL,
+                () -> httpFetchClient.postForm(BATCH_EXECUTE_URL, formBody, HTTP_TIMEOUT));
+        if (!response.isSuccessful()) {
+            return null;
+        }
+        
+        // 응답 형식: )]}'\n\n[["wrb.fr","Fbv4je","[\"garturlres\",\"https://...\",1]",...]]
+        String body = new String(response.getBody(), StandardCharsets.UTF_8);
+        int start = body.indexOf('[');
+        if (start < 0) {
+            return null;
+        }
+        JsonNode envelope = objectMapper.readTree(body.substring(start));
+        for (JsonNode entry : envelope) {
+            if (entry.size() > 2 && "Fbv4je".equals(entry.get(1).asText())) {
+                JsonNode result = objectMapper.readTree(entry.get(2).asText());
+                String url = result.path(1).asText(null);
+                return url != null && url.startsWith("http") ? url : null;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isGoogleHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null || host.equals("google.com") || host.endsWith(".google.com");
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.service.extract.ExtractionTemplateCache;
+import com.melllon.newsdatacollectservice.service.fetch.FetchGateway;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import com.melllon.newsdatacollectservice.service.fetch.HttpFetchClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일반 HTTP 요청으로 언론사 기사 페이지를 받아 Jsoup으로 본문을 추출합니다. (브라우저 없이 처리 가능한 페이지용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpArticleContentFetcher {
+    
+    private final HttpFetchClient httpFetchClient;
+    private final FetchGateway fetchGateway;
+    private final ExtractionTemplateCache extractionTemplateCache;
+    
+    /**
+     * 기사 본문을 반환합니다. 페이지를 받지 못했거나 본문을 찾지 못하면 null
+     */
+    public String fetchContent(String articleUrl) {
+        try {
+            FetchResponse response = fetchGateway.execute(articleUrl, () -> httpFetchClient.getArticle(articleUrl));
+            if (!response.isSuccessful()) {
+                log.info("기사 페이지 응답 오류 ({}): {}", response.getStatusCode(), articleUrl);
+                return null;
+            }
+            return extractionTemplateCache.extractArticle(articleUrl, response.parse());
+        } catch (Exception e) {
+            log.info("기사 페이지 HTTP 수집 실패: {} - {}", articleUrl, e.getMessage());
+            return null;
+        }
+    }
+}
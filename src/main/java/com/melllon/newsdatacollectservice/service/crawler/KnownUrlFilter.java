@@ -0,0 +1,92 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.repository.NewsArticleRepository;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.dedup.UrlFingerprintIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미 저장된 기사 URL을 걸러내는 필터
+ * 목록 추출 직후, 비용이 큰 본문 수집(Jsoup/셀레니움) 전에 사용합니다.
+ * 판별은 표준 URL의 64비트 해시로 하며, 메모리 지문 인덱스가 준비되어 있으면 인덱스로, 아니면 DB 조회로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownUrlFilter {
+    
+    private final NewsArticleRepository newsArticleRepository;
+    private final UrlFingerprintIndex urlFingerprintIndex;
+    private final CrawlerProperties crawlerProperties;
+    
+    /**
+     * 후보에 표준 URL의 해시를 채우고, 같은 목록 안의 중복과 이미 저장된 기사를 제외한 목록을 반환합니다. (목록 하나당 최대 한 번의 조회)
+     * 표준 URL은 중복 판별에만 쓰고, 후보의 URL은 본문 수집과 저장을 위해 원래 값을 유지합니다.
+     */
+    public List<NewsArticle> removeKnown(List<NewsArticle> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        
+        Map<Long, NewsArticle> byHash = new LinkedHashMap<>();
+        for (NewsArticle candidate : candidates) {
+            long urlHash = UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(candidate.getUrl()));
+            byHash.putIfAbsent(urlHash, candidate.toBuilder().urlHash(urlHash).build());
+        }
+        
+        Set<Long> known = findKnownUrlHashes(byHash.keySet());
+        List<NewsArticle> unknown = byHash.values().stream()
+                .filter(candidate -> !known.contains(candidate.getUrlHash()))
+                .toList();
+        if (unknown.size() < candidates.size()) {
+            log.info("중복되거나 이미 저장된 기사 {}개는 본문 수집을 건너뜁니다. (신규 후보 {}개)",
+                     candidates.size() - unknown.size(), unknown.size());
+        }
+        return unknown;
+    }
+    
+    /**
+     * 메모리 지문 인덱스 기준으로 이미 저장된 URL인지 확인합니다. (스트리밍 목록 추출 중 항목별 판별용)
+     * 인덱스가 준비되지 않았으면 false를 반환하며, 이 경우 removeKnown()에서 DB로 확인합니다.
+     */
+    public boolean isKnown(String url) {
+        if (url == null || !urlFingerprintIndex.isReady()) {
+            return false;
+        }
+        long urlHash = UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(url));
+        if (!urlFingerprintIndex.contains(urlHash)) {
+            return false;
+        }
+        return !crawlerProperties.getDedup().isVerifyPositives() || newsArticleRepository.existsByUrlHash(urlHash);
+    }
+    
+    /**
+     * 이미 저장된 URL 해시를 찾습니다. 인덱스가 준비되지 않았으면 목록 전체를 DB에서 한 번에 조회합니다.
+     */
+    private Set<Long> findKnownUrlHashes(Set<Long> urlHashes) {
+        if (!urlFingerprintIndex.isReady()) {
+            return new HashSet<>(newsArticleRepository.findExistingUrlHashes(urlHashes));
+        }
+        
+        Set<Long> known = new HashSet<>();
+        for (long urlHash : urlHashes) {
+            if (urlFingerprintIndex.contains(urlHash)) {
+                known.add(urlHash);
+            }
+        }
+        if (!known.isEmpty() && crawlerProperties.getDedup().isVerifyPositives()) {
+            return new HashSet<>(newsArticleRepository.findExistingUrlHashes(known));
+        }
+        return known;
+    }
+}
@@ -1,13 +1,20 @@
 package com.melllon.newsdatacollectservice.service.crawler;
 
-import com.melllon.newsdatacollectservice.entity.Keyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.extract.CompiledSelector;
+import com.melllon.newsdatacollectservice.service.extract.ExtractionTemplateCache;
+import com.melllon.newsdatacollectservice.service.fetch.FetchGateway;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import com.melllon.newsdatacollectservice.service.fetch.HttpFetchClient;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
+import org.jsoup.HttpStatusException;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -19,40 +26,112 @@ import java.util.List;
 @Component
 public class NaverNewsCrawler implements NewsCrawler {
     
+    private static final String SEARCH_HOST = "search.naver.com";
+    
+    // 새로운 네이버 뉴스 HTML 구조에 맞는 셀렉터들
+    // 마지막 넓은 셀렉터들은 결과는 사용하지만 학습하지 않음 (거의 모든 페이지에서 무언가를 찾음)
+    private static final List<CompiledSelector> LISTING_SELECTORS = CompiledSelector.withFallbacks(CompiledSelector.listOf(
+        "div.sds-comps-vertical-layout.sds-comps-full-layout.I6obO60yNcW8I32mDzvQ",
+        "div.news_wrap.api_ani_send",
+        "div.news_area",
+        "div.news_box",
+        "div.sds-comps-vertical-layout.sds-comps-full-layout", // 새로운 구조
+        "div[class*='sds-comps-vertical-layout']" // 클래스명에 vertical-layout이 포함된 요소
+    ),
+        "div[class*='news']", // 클래스명에 news가 포함된 요소
+        "div.api_subject_bx" // API 주제 박스
+    );
+    
+    // 제목 추출을 위한 다양한 셀렉터 (마지막 넓은 셀렉터들은 학습하지 않음)
+    private static final List<CompiledSelector> TITLE_SELECTORS = CompiledSelector.withFallbacks(CompiledSelector.listOf(
+        "span.sds-comps-text-type-headline1",
+        "span.sds-comps-text-ellipsis-1.sds-comps-text-type-headline1",
+        "a span.sds-comps-text-type-headline1",
+        "a span.sds-comps-text-ellipsis-1",
+        "span.sds-comps-text-ellipsis-1",
+        "a.news_tit",
+        "a[href*='n.news.naver.com']",
+        "a[href*='news.naver.com']",
+        "a.news_title",
+        "a.title"
+    ),
+        "h3 a",
+        "h2 a",
+        "a"
+    );
+    
+    // 네이버 뉴스 본문 셀렉터들 (우선순위 순)
+    private static final List<CompiledSelector> CONTENT_SELECTORS = CompiledSelector.listOf(
+        "div#contents > div#newsct_article > article#dic_area",
+        "div#contents div#newsct_article article#dic_area",
+        "div#contents div#newsct_article",
+        "div#contents article#dic_area",
+        "div#contents",
+        "article#dic_area",
+        "div.article_body",
+        "div.article-content"
+    );
+    
+    // 목록 요약/발행일 셀렉터 (우선순위 순)
+    private static final List<CompiledSelector> SUMMARY_SELECTORS = CompiledSelector.listOf(
+        "div.news_dsc",
+        "div.news_summary",
+        "div.summary",
+        "p.news_dsc",
+        "p.summary"
+    );
+    
+    private static final List<CompiledSelector> DATE_SELECTORS = CompiledSelector.listOf(
+        "span.info",
+        "span.date",
+        "span.time",
+        "div.info",
+        "div.date"
+    );
+    
+    private static final Evaluator NAVER_NEWS_LINK = QueryParser.parse("a[href*='n.news.naver.com']");
+    private static final Evaluator SPAN_NAVER_NEWS_LINK = QueryParser.parse("span a[href*='n.news.naver.com']");
+    private static final Evaluator ANY_LINK = QueryParser.parse("a[href]");
+    private static final Evaluator META_DESCRIPTION = QueryParser.parse("meta[name=description]");
+    private static final Evaluator BODY_NOISE = QueryParser.parse(
+            "script, style, .advertisement, .ad, .banner, .reporter_area, .copyright, .link_news");
+    
+    @Autowired
+    private FetchGateway fetchGateway;
+    
+    @Autowired
+    private HttpFetchClient httpFetchClient;
+    
+    @Autowired
+    private ExtractionTemplateCache extractionTemplateCache;
+    
     @Override
     public boolean canHandle(NewsSite newsSite) {
         return "네이버 뉴스".equals(newsSite.getName());
     }
     
     @Override
-    public List<NewsArticle> extractNewsArticles(Document doc, NewsSite newsSite, Keyword keyword) {
+    public List<String> listResultUrls(Document doc) {
+        return doc.select(NAVER_NEWS_LINK).eachAttr("href").stream()
+                .distinct()
+                .toList();
+    }
+    
+    @Override
+    public List<NewsArticle> extractCandidates(Document doc, NewsSite newsSite) {
         List<NewsArticle> articles = new ArrayList<>();
         
         try {
-            // 새로운 네이버 뉴스 HTML 구조에 맞는 셀렉터들
-            String[] selectors = {
-                "div.sds-comps-vertical-layout.sds-comps-full-layout.I6obO60yNcW8I32mDzvQ",
-                "div.news_wrap.api_ani_send",
-                "div.news_area",
-                "div.news_box",
-                "div.sds-comps-vertical-layout.sds-comps-full-layout", // 새로운 구조
-                "div[class*='sds-comps-vertical-layout']", // 클래스명에 vertical-layout이 포함된 요소
-                "div[class*='news']", // 클래스명에 news가 포함된 요소
-                "div.api_subject_bx" // API 주제 박스
-            };
-            
-            Elements newsElements = null;
-            String usedSelector = null;
-            
-            for (String selector : selectors) {
-                newsElements = doc.select(selector);
-                if (!newsElements.isEmpty()) {
-                    usedSelector = selector;
-                    log.info("네이버 뉴스에서 셀렉터 '{}'로 {}개의 기사 요소를 찾았습니다.", 
-                             usedSelector, newsElements.size());
-                    break;
-                }
-            }
+            // 이 호스트에서 마지막으로 성공한 셀렉터를 먼저 시도
+            Elements newsElements = extractionTemplateCache.extract(SEARCH_HOST, ExtractionTemplateCache.NAVER_LISTING,
+                    LISTING_SELECTORS, selector -> {
+                        Elements found = doc.select(selector.getEvaluator());
+                        if (found.isEmpty()) {
+                            return null;
+                        }
+                        log.info("네이버 뉴스에서 셀렉터 '{}'로 {}개의 기사 요소를 찾았습니다.", selector, found.size());
+                        return found;
+                    });
             
             if (newsElements != null && !newsElements.isEmpty()) {
                 // 테스트를 위해 10개로 제한
@@ -66,7 +145,7 @@ public class NaverNewsCrawler implements NewsCrawler {
                     }
                     
                     try {
-                        NewsArticle article = extractNaverArticleFromElement(element, newsSite, keyword);
+                        NewsArticle article = extractNaverCandidateFromElement(element, newsSite);
                         if (article != null) {
                             articles.add(article);
                             processedCount++;
@@ -76,7 +155,7 @@ public class NaverNewsCrawler implements NewsCrawler {
                     }
                 }
                 
-                log.info("네이버 뉴스 크롤링 완료: {}개의 기사 수집 (제한: {}개)", articles.size(), maxArticles);
+                log.info("네이버 뉴스 목록 추출 완료: {}개의 기사 후보 (제한: {}개)", articles.size(), maxArticles);
             } else {
                 log.warn("네이버 뉴스에서 기사 요소를 찾을 수 없습니다. 사용 가능한 셀렉터들을 모두 시도했습니다.");
             }
@@ -88,47 +167,40 @@ public class NaverNewsCrawler implements NewsCrawler {
         return articles;
     }
     
+    @Override
+    public NewsArticle enrich(NewsArticle candidate) {
+        // 개별 페이지에서 전체 내용 크롤링
+        String content = crawlFullContent(candidate.getUrl(), candidate.getNewsSite().getName());
+        if (content == null || content.isEmpty()) {
+            // 개별 페이지 크롤링 실패 시 목록에서 추출한 내용 유지
+            return candidate;
+        }
+        return candidate.toBuilder().content(content).build();
+    }
+    
     @Override
     public String crawlFullContent(String url, String siteName) {
         try {
             log.info("네이버 뉴스 개별 페이지 크롤링 시작: {}", url);
             
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                    .timeout(10000)
-                    .get();
+            FetchResponse response = fetchGateway.execute(url, () -> httpFetchClient.getArticle(url));
+            if (!response.isSuccessful()) {
+                throw new HttpStatusException("HTTP error fetching URL", response.getStatusCode(), url);
+            }
+            Document doc = response.parse();
             
             log.info("네이버 뉴스 페이지 로드 완료. 제목: {}", doc.title());
             
-            // 네이버 뉴스 본문 셀렉터들 (우선순위 순)
-            String[] contentSelectors = {
-                "div#contents > div#newsct_article > article#dic_area",
-                "div#contents div#newsct_article article#dic_area",
-                "div#contents div#newsct_article",
-                "div#contents article#dic_area",
-                "div#contents",
-                "article#dic_area",
-                "div.article_body",
-                "div.article-content"
-            };
-            
-            for (String selector : contentSelectors) {
-                Element contentElement = doc.selectFirst(selector);
-                if (contentElement != null) {
-                    // 불필요한 요소들 제거
-                    contentElement.select("script, style, .advertisement, .ad, .banner, .reporter_area, .copyright, .link_news").remove();
-                    
-                    String content = contentElement.text().trim();
-                    if (!content.isEmpty() && content.length() > 100) {
-                        log.info("네이버 뉴스 본문 요소 찾음: {}", selector);
-                        log.info("네이버 뉴스 본문 크롤링 성공: {} 문자", content.length());
-                        return content;
-                    }
-                }
+            String host = ExtractionTemplateCache.hostOf(url);
+            String content = extractionTemplateCache.extract(host != null ? host : SEARCH_HOST,
+                    ExtractionTemplateCache.NAVER_CONTENT, CONTENT_SELECTORS, selector -> extractNaverBody(doc, selector));
+            if (content != null) {
+                log.info("네이버 뉴스 본문 크롤링 성공: {} 문자", content.length());
+                return content;
             }
             
             // 메타 태그에서 설명 가져오기 (대안)
-            Element metaDesc = doc.selectFirst("meta[name=description]");
+            Element metaDesc = doc.selectFirst(META_DESCRIPTION);
             if (metaDesc != null) {
                 String description = metaDesc.attr("content").trim();
                 if (!description.isEmpty() && description.length() > 50) {
@@ -146,7 +218,23 @@ public class NaverNewsCrawler implements NewsCrawler {
         }
     }
     
-    private NewsArticle extractNaverArticleFromElement(Element element, NewsSite newsSite, Keyword keyword) {
+    private String extractNaverBody(Document doc, CompiledSelector selector) {
+        Element contentElement = doc.selectFirst(selector.getEvaluator());
+        if (contentElement == null) {
+            return null;
+        }
+        // 불필요한 요소들 제거
+        contentElement.select(BODY_NOISE).remove();
+        
+        String content = contentElement.text().trim();
+        if (content.length() > 100) {
+            log.info("네이버 뉴스 본문 요소 찾음: {}", selector);
+            return content;
+        }
+        return null;
+    }
+    
+    private NewsArticle extractNaverCandidateFromElement(Element element, NewsSite newsSite) {
         try {
             // 네이버 뉴스 링크 추출 (우선적으로 span 내 a 태그에서 찾기)
             String newsUrl = extractNaverNewsUrl(element);
@@ -162,12 +250,8 @@ public class NaverNewsCrawler implements NewsCrawler {
                 return null;
             }
             
-            // 개별 페이지에서 전체 내용 크롤링
-            String content = crawlFullContent(newsUrl, newsSite.getName());
-            if (content == null || content.isEmpty()) {
-                // 개별 페이지 크롤링 실패 시 현재 페이지에서 추출
-                content = extractNaverContent(element);
-            }
+            // 목록에서 요약 내용 추출 (본문은 enrich 단계에서 수집)
+            String content = extractNaverContent(element);
             
             // 발행일 추출
             LocalDateTime publishedDate = extractNaverPublishedDate(element);
@@ -178,10 +262,9 @@ public class NaverNewsCrawler implements NewsCrawler {
                     .url(newsUrl)
                     .publishedAt(publishedDate)
                     .newsSite(newsSite)
-                    .keyword(keyword)
                     .collectedAt(LocalDateTime.now())
                     .build();
-                    
+            
         } catch (Exception e) {
             log.warn("네이버 뉴스 기사 추출 중 오류: {}", e.getMessage());
             return null;
@@ -190,19 +273,19 @@ public class NaverNewsCrawler implements NewsCrawler {
     
     private String extractNaverNewsUrl(Element element) {
         // 네이버 뉴스 링크를 우선적으로 찾기 (span 내 a 태그)
-        Elements spanLinks = element.select("span a[href*='n.news.naver.com']");
-        if (!spanLinks.isEmpty()) {
-            return spanLinks.first().attr("href");
+        Element spanLink = element.selectFirst(SPAN_NAVER_NEWS_LINK);
+        if (spanLink != null) {
+            return spanLink.attr("href");
         }
         
         // 일반적인 a 태그에서 네이버 뉴스 링크 찾기
-        Elements links = element.select("a[href*='n.news.naver.com']");
-        if (!links.isEmpty()) {
-            return links.first().attr("href");
+        Element link = element.selectFirst(NAVER_NEWS_LINK);
+        if (link != null) {
+            return link.attr("href");
         }
         
         // 다른 뉴스 링크들도 확인
-        Elements allLinks = element.select("a[href]");
+        Elements allLinks = element.select(ANY_LINK);
         for (Element link : allLinks) {
             String href = link.attr("href");
             if (href.contains("news.naver.com") || href.contains("n.news.naver.com")) {
@@ -214,53 +297,30 @@ public class NaverNewsCrawler implements NewsCrawler {
     }
     
     private String extractNaverTitle(Element element) {
-        // 제목 추출을 위한 다양한 셀렉터 시도
-        String[] titleSelectors = {
-            "span.sds-comps-text-type-headline1",
-            "span.sds-comps-text-ellipsis-1.sds-comps-text-type-headline1",
-            "a span.sds-comps-text-type-headline1",
-            "a span.sds-comps-text-ellipsis-1",
-            "span.sds-comps-text-ellipsis-1",
-            "a.news_tit",
-            "a[href*='n.news.naver.com']",
-            "a[href*='news.naver.com']",
-            "a.news_title",
-            "a.title",
-            "h3 a",
-            "h2 a",
-            "a"
-        };
+        String title = extractionTemplateCache.extract(SEARCH_HOST, ExtractionTemplateCache.NAVER_TITLE, TITLE_SELECTORS,
+                selector -> {
+                    Element titleElement = element.selectFirst(selector.getEvaluator());
+                    if (titleElement == null) {
+                        log.debug("제목 셀렉터 '{}'에서 요소를 찾을 수 없음", selector);
+                        return null;
+                    }
+                    String text = titleElement.text().trim();
+                    log.debug("제목 셀렉터 '{}'로 제목 찾음: {}", selector, text);
+                    return text.length() > 5 ? text : null;
+                });
         
-        for (String selector : titleSelectors) {
-            Element titleElement = element.selectFirst(selector);
-            if (titleElement != null) {
-                String title = titleElement.text().trim();
-                log.debug("제목 셀렉터 '{}'로 제목 찾음: {}", selector, title);
-                if (!title.isEmpty() && title.length() > 5) {
-                    log.info("네이버 뉴스 제목 추출 성공: {}", title);
-                    return title;
-                }
-            } else {
-                log.debug("제목 셀렉터 '{}'에서 요소를 찾을 수 없음", selector);
-            }
+        if (title != null) {
+            log.info("네이버 뉴스 제목 추출 성공: {}", title);
+        } else {
+            log.warn("네이버 뉴스 제목을 찾을 수 없습니다.");
         }
-        
-        log.warn("네이버 뉴스 제목을 찾을 수 없습니다.");
-        return null;
+        return title;
     }
     
     private String extractNaverContent(Element element) {
         // 간단한 내용 추출 (개별 페이지 크롤링이 실패했을 때 사용)
-        String[] contentSelectors = {
-            "div.news_dsc",
-            "div.news_summary",
-            "div.summary",
-            "p.news_dsc",
-            "p.summary"
-        };
-        
-        for (String selector : contentSelectors) {
-            Element contentElement = element.selectFirst(selector);
+        for (CompiledSelector selector : SUMMARY_SELECTORS) {
+            Element contentElement = element.selectFirst(selector.getEvaluator());
             if (contentElement != null) {
                 String content = contentElement.text().trim();
                 if (!content.isEmpty() && content.length() > 10) {
@@ -274,16 +334,8 @@ public class NaverNewsCrawler implements NewsCrawler {
     
     private LocalDateTime extractNaverPublishedDate(Element element) {
         // 발행일 추출
-        String[] dateSelectors = {
-            "span.info",
-            "span.date",
-            "span.time",
-            "div.info",
-            "div.date"
-        };
-        
-        for (String selector : dateSelectors) {
-            Element dateElement = element.selectFirst(selector);
+        for (CompiledSelector selector : DATE_SELECTORS) {
+            Element dateElement = element.selectFirst(selector.getEvaluator());
             if (dateElement != null) {
                 String dateText = dateElement.text().trim();
                 LocalDateTime parsedDate = parseNaverDate(dateText);
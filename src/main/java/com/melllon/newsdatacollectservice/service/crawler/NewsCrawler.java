@@ -1,11 +1,14 @@
 package com.melllon.newsdatacollectservice.service.crawler;
 
-import com.melllon.newsdatacollectservice.entity.Keyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
 import org.jsoup.nodes.Document;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * 뉴스 크롤링을 위한 인터페이스
@@ -18,12 +21,55 @@ public interface NewsCrawler {
     boolean canHandle(NewsSite newsSite);
     
     /**
-     * 웹 페이지에서 뉴스 기사들을 추출합니다.
+     * 검색 결과 페이지에 나온 기사 URL을 순서대로 반환합니다.
+     * 기사 후보를 만들지 않는 가벼운 조회로, 결과 목록이 바뀌었는지 판별하는 데 사용합니다.
      */
-    List<NewsArticle> extractNewsArticles(Document doc, NewsSite newsSite, Keyword keyword);
+    List<String> listResultUrls(Document doc);
+    
+    /**
+     * 검색 결과 페이지에서 본문 수집 전의 기사 후보들을 추출합니다.
+     * 개별 기사 페이지는 요청하지 않으며, 본문은 목록에서 얻을 수 있는 요약으로 채워집니다.
+     */
+    List<NewsArticle> extractCandidates(Document doc, NewsSite newsSite);
+    
+    /**
+     * 검색 결과 응답을 Document로 만들지 않고 streamCandidates()로 읽는 크롤러인지 여부 (RSS 등)
+     */
+    default boolean streamsListing() {
+        return false;
+    }
+    
+    /**
+     * 검색 결과 응답 본문을 스트리밍으로 읽어 기사 후보를 추출합니다.
+     * isKnown이 true인 URL은 후보에서 제외하며, 새 후보가 충분히 모이면 나머지 응답은 읽지 않습니다.
+     * 스트리밍 해석기가 없는 크롤러는 응답 전체를 Document로 해석하여 extractCandidates() 결과를 같은 형태로 나눕니다.
+     */
+    default StreamedListing streamCandidates(FetchResponse response, NewsSite newsSite, Predicate<String> isKnown) throws IOException {
+        Document doc = response.parse();
+        List<NewsArticle> candidates = new ArrayList<>();
+        List<NewsArticle> knownArticles = new ArrayList<>();
+        for (NewsArticle article : extractCandidates(doc, newsSite)) {
+            (isKnown.test(article.getUrl()) ? knownArticles : candidates).add(article);
+        }
+        return new StreamedListing(listResultUrls(doc), candidates, knownArticles);
+    }
+    
+    /**
+     * 기사 후보의 개별 페이지를 크롤링하여 본문을 채웁니다.
+     */
+    NewsArticle enrich(NewsArticle candidate);
+    
+    /**
+     * 웹 페이지에서 뉴스 기사들을 추출합니다. (후보 추출 + 본문 수집)
+     */
+    default List<NewsArticle> extractNewsArticles(Document doc, NewsSite newsSite) {
+        return extractCandidates(doc, newsSite).stream()
+                .map(this::enrich)
+                .toList();
+    }
     
     /**
      * 개별 뉴스 페이지에서 전체 내용을 크롤링합니다.
      */
     String crawlFullContent(String url, String siteName);
-} 
\ No newline at end of file
+}
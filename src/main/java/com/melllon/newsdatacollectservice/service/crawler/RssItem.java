@@ -0,0 +1,17 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RSS 피드의 item 하나 (스트리밍으로 읽은 값만 담음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RssItem {
+    
+    private final String title;
+    private final String link;
+    private final String pubDate;
+    private final String source;
+}
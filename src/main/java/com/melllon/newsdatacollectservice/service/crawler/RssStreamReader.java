@@ -0,0 +1,75 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Predicate;
+
+/**
+ * RSS 피드를 DOM으로 만들지 않고 StAX로 item 단위로 읽습니다.
+ * 처리기가 false를 반환하면 나머지 피드는 읽지 않습니다.
+ */
+public final class RssStreamReader {
+    
+    private static final XMLInputFactory FACTORY = createFactory();
+    
+    private RssStreamReader() {
+    }
+    
+    /**
+     * item을 순서대로 처리기에 넘기고, 읽은 item 수를 반환합니다.
+     */
+    public static int read(InputStream in, Predicate<RssItem> handler) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            int itemCount = 0;
+            boolean inItem = false;
+            String title = null;
+            String link = null;
+            String pubDate = null;
+            String source = null;
+            
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals("item")) {
+                        inItem = true;
+                        title = link = pubDate = source = null;
+                    } else if (inItem) {
+                        switch (name) {
+                            case "title" -> title = reader.getElementText().trim();
+                            case "link" -> link = reader.getElementText().trim();
+                            case "pubDate" -> pubDate = reader.getElementText().trim();
+                            case "source" -> source = reader.getElementText().trim();
+                            default -> {
+                                // 그 밖의 요소(description, guid 등)는 읽지 않음
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && inItem && reader.getLocalName().equals("item")) {
+                    inItem = false;
+                    itemCount++;
+                    if (!handler.test(new RssItem(title, link, pubDate, source))) {
+                        break;
+                    }
+                }
+            }
+            return itemCount;
+        } finally {
+            reader.close();
+        }
+    }
+    
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD는 처리하지 않음 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -1,17 +1,20 @@
 package com.melllon.newsdatacollectservice.service.crawler;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.service.browser.BrowserSessionPool;
+import com.melllon.newsdatacollectservice.service.browser.BrowserTab;
+import com.melllon.newsdatacollectservice.service.browser.ResourceUsage;
+import com.melllon.newsdatacollectservice.service.extract.ExtractionTemplateCache;
+import com.melllon.newsdatacollectservice.service.fetch.FetchGateway;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.InterruptedIOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -22,47 +25,87 @@ import java.util.ArrayList;
 @Component
 public class SeleniumGoogleNewsContentFetcher {
 
-    private static final int PAGE_LOAD_TIMEOUT = 30;
+    @Autowired
+    private CrawlerProperties crawlerProperties;
+    
+    @Autowired
+    private FetchGateway fetchGateway;
+    
+    @Autowired
+    private BrowserSessionPool browserSessionPool;
+    
+    @Autowired
+    private GoogleNewsUrlResolver googleNewsUrlResolver;
+    
+    @Autowired
+    private ExtractionTemplateCache extractionTemplateCache;
     
     /**
      * 셀레니움을 사용하여 구글 뉴스 리다이렉트 URL에서 실제 뉴스 본문을 크롤링합니다.
+     * 크롬은 매번 새로 띄우지 않고 세션 풀의 탭을 빌려 사용합니다.
      */
     public String crawlContentWithSelenium(String googleNewsUrl) {
-        WebDriver driver = null;
         try {
-            log.info("[셀레니움] 1. 최초 접근한 URL: {}", googleNewsUrl);
-            driver = setupWebDriver();
-            driver.get(googleNewsUrl);
-            log.info("[셀레니움] 2. 현재 페이지 타이틀: {}", driver.getTitle());
-            log.info("[셀레니움] 3. 현재 URL: {}", driver.getCurrentUrl());
-
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(PAGE_LOAD_TIMEOUT));
-            // news.google.com이 아닌 곳으로 리다이렉트될 때까지 대기 (최대 PAGE_LOAD_TIMEOUT초)
-            boolean redirected = wait.until(d -> !d.getCurrentUrl().contains("news.google.com"));
-            String currentUrl = driver.getCurrentUrl();
-            log.info("[셀레니움] 4. 리다이렉트 후 URL: {}", currentUrl);
-
-            if (redirected && !currentUrl.contains("news.google.com")) {
-                // 실제 뉴스 기사 페이지에서 본문 추출
-                String content = extractContentFromNewsPage(driver, wait, currentUrl);
-                if (content != null && !content.trim().isEmpty()) {
-                    log.info("[셀레니움] 5. 본문 추출 성공: {} 문자", content.length());
-                    return content;
-                } else {
-                    log.warn("[셀레니움] 본문 추출 실패: {}", currentUrl);
-                }
-            } else {
-                log.warn("[셀레니움] 리다이렉트가 감지되지 않음, 현재 URL: {}", currentUrl);
-            }
+            return browserSessionPool.withTab(tab -> crawlContentInTab(tab, googleNewsUrl));
+        } catch (TimeoutException e) {
+            log.warn("[셀레니움] 리다이렉트 또는 페이지 로딩 시간 초과: {} - {}", googleNewsUrl, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
         } catch (Exception e) {
             log.error("[셀레니움] 크롤링 중 예외 발생: {}", e.getMessage(), e);
             return null;
-        } finally {
-            if (driver != null) {
-                driver.quit();
-                log.info("[셀레니움] WebDriver 종료 완료");
+        }
+    }
+    
+    private String crawlContentInTab(BrowserTab tab, String googleNewsUrl) throws Exception {
+        CrawlerProperties.Browser config = crawlerProperties.getBrowser();
+        Duration pageLoadTimeout = config.getPageLoadTimeout();
+        log.info("[셀레니움] 1. 최초 접근한 URL: {}", googleNewsUrl);
+        // 이전 작업(빈 페이지 이동 등)에서 남은 네트워크 이벤트는 버림
+        tab.drainEvents();
+        
+        // news.google.com 요청도 호스트별 예산을 따르도록 게이트웨이를 거쳐 이동 (리다이렉트 완료까지)
+        String currentUrl = fetchGateway.execute(googleNewsUrl, () -> {
+            tab.navigate(googleNewsUrl);
+            try {
+                // news.google.com이 아닌 곳의 문서 응답이 도착할 때까지 대기 (DevTools 네트워크 이벤트)
+                return tab.awaitMainDocument(url -> !url.contains("news.google.com") && !url.startsWith("about:"), pageLoadTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("리다이렉트 대기 중 인터럽트되었습니다: " + googleNewsUrl);
+            }
+        });
+        log.info("[셀레니움] 2. 리다이렉트 후 URL: {}", currentUrl);
+        // 같은 구글 뉴스 링크는 다음부터 브라우저 없이 변환되도록 저장
+        googleNewsUrlResolver.remember(googleNewsUrl, currentUrl);
+        
+        tab.awaitReady(config.getReadyEvent(), config.isStopLoadingWhenReady(), pageLoadTimeout);
+        log.info("[셀레니움] 3. 현재 페이지 타이틀: {}", tab.getTitle());
+        
+        // 실제 뉴스 기사 페이지에서 본문 추출
+        String content = extractContentFromNewsPage(tab, currentUrl);
+        logResourceUsage(tab, currentUrl);
+        if (content != null && !content.trim().isEmpty()) {
+            log.info("[셀레니움] 4. 본문 추출 성공: {} 문자", content.length());
+            return content;
+        }
+        log.warn("[셀레니움] 본문 추출 실패: {}", currentUrl);
+        return null;
+    }
+    
+    private void logResourceUsage(BrowserTab tab, String url) {
+        try {
+            ResourceUsage usage = ResourceUsage.from(tab.drainEvents());
+            if (usage.getDownloadedRequests() == 0 && usage.getBlockedRequests() == 0) {
+                return;
             }
+            log.info("[셀레니움] 리소스 사용량: 차단 {}건 (약 {}KB 절약), 다운로드 {}건 ({}KB) - {}",
+                     usage.getBlockedRequests(), usage.getEstimatedSavedBytes() / 1024,
+                     usage.getDownloadedRequests(), usage.getDownloadedBytes() / 1024, url);
+        } catch (Exception e) {
+            log.debug("[셀레니움] 리소스 사용량 집계 실패: {}", e.getMessage());
         }
     }
     
@@ -100,92 +143,19 @@ public class SeleniumGoogleNewsContentFetcher {
         return results;
     }
     
-    /**
-     * WebDriver 설정
-     */
-    private WebDriver setupWebDriver() {
-        // Chrome 드라이버 자동 설정
-        WebDriverManager.chromedriver().setup();
-        
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless"); // 헤드리스 모드
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-        
-        WebDriver driver = new ChromeDriver(options);
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(PAGE_LOAD_TIMEOUT));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-        
-        return driver;
-    }
-
     /**
      * 뉴스 페이지에서 본문 추출
+     * 페이지 소스를 한 번만 받아 로컬에서 Jsoup으로 분석합니다. (요소별 WebDriver 호출 없음)
      */
-    private String extractContentFromNewsPage(WebDriver driver, WebDriverWait wait, String url) {
+    private String extractContentFromNewsPage(BrowserTab tab, String url) {
         try {
-            // 페이지 로딩 대기
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-            
-            // 다양한 뉴스 사이트의 본문 셀렉터 시도
-            String[] contentSelectors = {
-                "article",
-                ".article-content",
-                ".article-body",
-                ".news-content",
-                ".news-body",
-                ".content",
-                ".post-content",
-                ".entry-content",
-                ".story-content",
-                ".article-text",
-                ".news-text",
-                ".post-body",
-                ".entry-body",
-                ".story-body",
-                "div[class*='content']",
-                "div[class*='article']",
-                "div[class*='story']",
-                "div[class*='post']",
-                "div[class*='entry']",
-                ".article_view",
-                ".news_view",
-                ".content_view",
-                ".post_view",
-                ".story_view"
-            };
-            
-            for (String selector : contentSelectors) {
-                try {
-                    List<WebElement> elements = driver.findElements(By.cssSelector(selector));
-                    for (WebElement element : elements) {
-                        String text = element.getText().trim();
-                        if (text.length() > 200) { // 충분한 길이의 텍스트인지 확인
-                            log.info("본문 추출 성공 (셀렉터: {}): {} 문자", selector, text.length());
-                            return text;
-                        }
-                    }
-                } catch (Exception e) {
-                    // 개별 셀렉터 실패는 무시하고 다음 시도
-                    log.warn("셀렉터 {}에서 본문 추출 실패: {}", selector, e.getMessage());
-                }
-            }
-            
-            // 모든 셀렉터가 실패한 경우 body 전체에서 텍스트 추출
-            WebElement body = driver.findElement(By.tagName("body"));
-            String bodyText = body.getText().trim();
-            
-            if (bodyText.length() > 100) {
-                log.info("body 전체에서 본문 추출: {} 문자", bodyText.length());
-                return bodyText;
+            String pageSource = tab.call(WebDriver::getPageSource);
+            Document doc = Jsoup.parse(pageSource, url);
+            String content = extractionTemplateCache.extractArticle(url, doc);
+            if (content == null) {
+                log.warn("본문을 찾을 수 없습니다: {}", url);
             }
-            
-            log.warn("본문을 찾을 수 없습니다: {}", url);
-            return null;
-            
+            return content;
         } catch (Exception e) {
             log.error("본문 추출 중 오류 발생: {} - {}", url, e.getMessage());
             return null;
@@ -0,0 +1,25 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스트리밍으로 읽은 검색 결과 목록
+ * 새 후보가 충분히 모이면 읽기를 멈추므로 resultUrls는 피드 앞부분일 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StreamedListing {
+    
+    // 읽은 결과 기사 URL (순서대로, 이미 저장된 기사 포함)
+    private final List<String> resultUrls;
+    
+    // 이미 저장된 기사를 제외한 기사 후보
+    private final List<NewsArticle> candidates;
+    
+    // 이미 저장된 기사 (목록의 제목/요약만 채움, 검색 키워드와 연결하는 데 사용)
+    private final List<NewsArticle> knownArticles;
+}
@@ -0,0 +1,48 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+/**
+ * 64비트 지문 전용 블룸 필터
+ * 지문 하나에서 두 개의 해시를 만들어 k개의 비트 위치를 계산합니다. (double hashing)
+ */
+class BloomFilter {
+    
+    private final long[] bits;
+    private final long bitMask;
+    private final int hashCount;
+    
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long optimalBits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        // 비트 수를 2의 거듭제곱으로 맞춰 나머지 연산 대신 마스크 사용
+        long bitCount = Long.highestOneBit(Math.max(64, optimalBits - 1)) << 1;
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, bitCount >>> 6)];
+        this.bitMask = ((long) bits.length << 6) - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+    
+    void put(long fingerprint) {
+        long h1 = fingerprint;
+        long h2 = Long.rotateLeft(fingerprint, 32) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+    
+    boolean mightContain(long fingerprint) {
+        long h1 = fingerprint;
+        long h2 = Long.rotateLeft(fingerprint, 32) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    long bitSize() {
+        return (long) bits.length << 6;
+    }
+}
@@ -0,0 +1,118 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+import java.util.function.LongConsumer;
+
+/**
+ * long 원시값 전용 오픈 어드레싱(선형 탐사) 해시 집합
+ * 박싱 없이 long[] 하나만 사용하며, 동기화는 호출하는 쪽(UrlFingerprintIndex)이 담당합니다.
+ */
+class LongOpenHashSet {
+    
+    // 0은 빈 슬롯 표시로 사용하므로 실제 값 0은 별도 플래그로 관리
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+    
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    private int resizeThreshold;
+    
+    LongOpenHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) Math.min(1 << 30, (long) (expectedSize / LOAD_FACTOR))) - 1) << 1;
+        allocate(capacity);
+    }
+    
+    boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        long[] current = table;
+        int currentMask = current.length - 1;
+        int index = (int) UrlHashing.mix(value) & currentMask;
+        while (true) {
+            long slot = current[index];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot == value) {
+                return true;
+            }
+            index = (index + 1) & currentMask;
+        }
+    }
+    
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if (!insert(table, mask, value)) {
+            return false;
+        }
+        if (++size > resizeThreshold) {
+            resize(table.length << 1);
+        }
+        return true;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * 모든 값을 순회합니다. (블룸 필터 재구성용)
+     */
+    void forEach(LongConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(EMPTY);
+        }
+        for (long value : table) {
+            if (value != EMPTY) {
+                consumer.accept(value);
+            }
+        }
+    }
+    
+    private static boolean insert(long[] target, int targetMask, long value) {
+        int index = (int) UrlHashing.mix(value) & targetMask;
+        while (true) {
+            long slot = target[index];
+            if (slot == EMPTY) {
+                target[index] = value;
+                return true;
+            }
+            if (slot == value) {
+                return false;
+            }
+            index = (index + 1) & targetMask;
+        }
+    }
+    
+    private void resize(int newCapacity) {
+        long[] old = table;
+        long[] resized = new long[newCapacity];
+        int newMask = newCapacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                insert(resized, newMask, value);
+            }
+        }
+        table = resized;
+        mask = newMask;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+    }
+    
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
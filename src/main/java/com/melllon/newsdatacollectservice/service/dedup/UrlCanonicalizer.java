@@ -0,0 +1,143 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 기사를 가리키는 서로 다른 URL을 하나의 표준 형태로 정규화합니다.
+ * 표준 URL은 중복 판별(url_hash)에만 사용하며, 요청하거나 저장하는 URL은 원래 값을 유지합니다.
+ * - 스킴/호스트 소문자화, http → https, 기본 포트와 프래그먼트 제거
+ * - 추적용 쿼리 파라미터(utm_*, fbclid 등) 제거 후 나머지 파라미터 정렬
+ * - 네이버 기사는 언론사 ID(oid)와 기사 ID(aid)만으로 표준 URL 생성
+ * - 구글 뉴스 기사 링크는 토큰 경로만 남기고 쿼리 제거
+ *   (실제 기사 URL로 변환하지 못한 링크에만 쓰이며, 변환된 기사는 언론사 URL의 표준 형태로 판별)
+ */
+public final class UrlCanonicalizer {
+    
+    private static final String NAVER_ARTICLE_FORMAT = "https://n.news.naver.com/mnews/article/%s/%s";
+    
+    // n.news.naver.com/mnews/article/001/0014000000, m.news.naver.com/article/001/0014000000 등
+    private static final Pattern NAVER_ARTICLE_PATH = Pattern.compile("^/(?:mnews/)?article/(\\d+)/(\\d+)");
+    private static final Pattern NAVER_OID_PARAM = Pattern.compile("(?:^|&)oid=(\\d+)");
+    private static final Pattern NAVER_AID_PARAM = Pattern.compile("(?:^|&)aid=(\\d+)");
+    
+    private static final Set<String> NAVER_NEWS_HOSTS = Set.of(
+            "n.news.naver.com", "m.news.naver.com", "news.naver.com");
+    
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "mc_cid", "mc_eid",
+            "ref", "ref_src", "cmpid", "ocid", "spm");
+    
+    private UrlCanonicalizer() {
+    }
+    
+    /**
+     * 표준 URL을 반환합니다. 해석할 수 없는 URL은 앞뒤 공백만 제거하여 그대로 반환합니다.
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+        
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null || uri.getHost() == null) {
+            return trimmed;
+        }
+        
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            return trimmed;
+        }
+        String host = normalizeHost(uri.getHost());
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery();
+        
+        if (NAVER_NEWS_HOSTS.contains(host)) {
+            String naverUrl = canonicalizeNaverArticle(path, query);
+            if (naverUrl != null) {
+                return naverUrl;
+            }
+        }
+        if (host.equals("news.google.com") && path.contains("/articles/")) {
+            // 구글 뉴스 링크는 경로의 토큰이 기사를 식별하며, 쿼리(oc=5, hl 등)는 의미가 없음
+            return "https://" + host + path;
+        }
+        
+        StringBuilder canonical = new StringBuilder("https://").append(host);
+        int port = uri.getPort();
+        if (port != -1 && port != 80 && port != 443) {
+            canonical.append(':').append(port);
+        }
+        canonical.append(path);
+        
+        String filteredQuery = filterQuery(query);
+        if (!filteredQuery.isEmpty()) {
+            canonical.append('?').append(filteredQuery);
+        }
+        return canonical.toString();
+    }
+    
+    /**
+     * 표준 URL의 64비트 해시 (news_articles.url_hash 값)
+     */
+    public static long hash(String canonicalUrl) {
+        return UrlHashing.hash64(canonicalUrl);
+    }
+    
+    private static String normalizeHost(String host) {
+        String normalized = host.toLowerCase(Locale.ROOT);
+        if (normalized.endsWith(".")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+    
+    private static String canonicalizeNaverArticle(String path, String query) {
+        Matcher pathMatcher = NAVER_ARTICLE_PATH.matcher(path);
+        if (pathMatcher.find()) {
+            return String.format(NAVER_ARTICLE_FORMAT, pathMatcher.group(1), pathMatcher.group(2));
+        }
+        if (query == null) {
+            return null;
+        }
+        // 구형 형식: news.naver.com/main/read.naver?mode=LSD&oid=001&aid=0014000000
+        Matcher oid = NAVER_OID_PARAM.matcher(query);
+        Matcher aid = NAVER_AID_PARAM.matcher(query);
+        if (oid.find() && aid.find()) {
+            return String.format(NAVER_ARTICLE_FORMAT, oid.group(1), aid.group(1));
+        }
+        return null;
+    }
+    
+    private static String filterQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        List<String> kept = new ArrayList<>();
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int equals = param.indexOf('=');
+            String name = (equals < 0 ? param : param.substring(0, equals)).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            kept.add(param);
+        }
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+}
@@ -0,0 +1,132 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 저장된 기사 URL의 메모리 내 지문 인덱스 (news_articles.url_hash 값)
+ * 블룸 필터로 대부분의 신규 URL을 걸러내고, 통과한 경우 long 집합으로 정확히 확인합니다.
+ * 시작 시 news_articles에서 적재되며 기사가 저장될 때마다 갱신됩니다.
+ * DB는 여전히 최종 기준이며(저장 시 insert-if-absent), 이 인덱스는 본문 수집 전 빠른 판별에만 사용됩니다.
+ */
+@Slf4j
+@Component
+public class UrlFingerprintIndex {
+    
+    private static final int WARM_UP_FETCH_SIZE = 10_000;
+    
+    private final CrawlerProperties crawlerProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService crawlExecutor;
+    
+    private final StampedLock lock = new StampedLock();
+    private final LongOpenHashSet fingerprints;
+    private BloomFilter bloomFilter;
+    private long bloomCapacity;
+    
+    private volatile boolean ready = false;
+    
+    public UrlFingerprintIndex(CrawlerProperties crawlerProperties, JdbcTemplate jdbcTemplate,
+                               ExecutorService crawlExecutor) {
+        this.crawlerProperties = crawlerProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.crawlExecutor = crawlExecutor;
+        
+        CrawlerProperties.Dedup config = crawlerProperties.getDedup();
+        this.bloomCapacity = config.getExpectedUrls();
+        this.bloomFilter = new BloomFilter(bloomCapacity, config.getFalsePositiveRate());
+        this.fingerprints = new LongOpenHashSet((int) Math.min(Integer.MAX_VALUE, bloomCapacity));
+    }
+    
+    /**
+     * 애플리케이션 시작 후 저장된 URL로 인덱스를 채웁니다. (요청 처리를 막지 않도록 별도 스레드에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        crawlExecutor.execute(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("SELECT url_hash FROM news_articles");
+                    statement.setFetchSize(WARM_UP_FETCH_SIZE);
+                    return statement;
+                }, (RowCallbackHandler) rs -> add(rs.getLong(1)));
+                ready = true;
+                log.info("URL 지문 인덱스 적재 완료: {}개 ({}ms)", size(), System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                log.error("URL 지문 인덱스 적재 실패, DB 조회로 중복을 확인합니다: {}", e.getMessage(), e);
+            }
+        });
+    }
+    
+    /**
+     * 인덱스가 적재되어 조회에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 표준 URL 해시가 이미 저장되어 있는지 확인합니다. 객체를 할당하지 않습니다.
+     */
+    public boolean contains(long fingerprint) {
+        long stamp = lock.tryOptimisticRead();
+        boolean result = probe(fingerprint);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = probe(fingerprint);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+    
+    public void add(long fingerprint) {
+        long stamp = lock.writeLock();
+        try {
+            if (fingerprints.add(fingerprint)) {
+                bloomFilter.put(fingerprint);
+                if (fingerprints.size() > bloomCapacity * 2) {
+                    rebuildBloomFilter();
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return fingerprints.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    private boolean probe(long fingerprint) {
+        return bloomFilter.mightContain(fingerprint) && fingerprints.contains(fingerprint);
+    }
+    
+    /**
+     * 예상보다 많은 URL이 쌓여 오탐률이 높아지면 블룸 필터를 더 크게 다시 만듭니다. (쓰기 잠금 안에서 호출)
+     */
+    private void rebuildBloomFilter() {
+        bloomCapacity = (long) fingerprints.size() * 2;
+        BloomFilter rebuilt = new BloomFilter(bloomCapacity, crawlerProperties.getDedup().getFalsePositiveRate());
+        fingerprints.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        log.info("URL 지문 블룸 필터 재구성: {}비트 (URL {}개)", rebuilt.bitSize(), fingerprints.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+/**
+ * URL의 64비트 지문(fingerprint) 계산
+ * 문자열을 바이트 배열로 변환하지 않고 문자 단위로 계산하므로 호출 시 객체를 할당하지 않습니다.
+ */
+public final class UrlHashing {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private UrlHashing() {
+    }
+    
+    /**
+     * FNV-1a(UTF-16 단위) 후 MurmurHash3의 fmix64로 비트를 고르게 섞은 64비트 해시
+     */
+    public static long hash64(CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+    
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,291 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 기사 페이지 DOM을 한 번 순회하며 본문 블록을 찾습니다. (Readability 방식의 텍스트/링크 밀도 점수)
+ * - 문단(p 등)이나 블록의 직접 텍스트마다 길이/쉼표 수로 점수를 매겨 부모에 전부, 조부모에 절반을 더함
+ * - 후보 점수에 class/id 가중치를 더하고 링크 텍스트 비율만큼 감점
+ * - 스크립트, 내비게이션, 헤더/푸터 등은 순회에서 통째로 건너뜀
+ */
+public final class ArticleContentExtractor {
+    
+    // 본문으로 인정할 최소 길이, 본문을 못 찾았을 때 body 전체를 쓸 최소 길이
+    private static final int MIN_CONTENT_LENGTH = 200;
+    private static final int MIN_BODY_LENGTH = 100;
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+    
+    private static final Set<String> SKIPPED_TAGS = Set.of(
+            "script", "style", "noscript", "nav", "header", "footer", "aside", "form",
+            "iframe", "button", "select", "svg", "template");
+    
+    private static final Set<String> PARAGRAPH_TAGS = Set.of("p", "pre", "blockquote");
+    
+    // 텍스트를 가장 가까운 블록 요소의 직접 텍스트로 보는 인라인 태그
+    private static final Set<String> INLINE_TAGS = Set.of(
+            "a", "b", "strong", "em", "i", "u", "span", "font", "small", "sub", "sup", "mark", "br");
+    
+    private static final Pattern POSITIVE_HINT = Pattern.compile(
+            "article|body|content|entry|main|news|post|story|text|view|dic_area");
+    private static final Pattern NEGATIVE_HINT = Pattern.compile(
+            "comment|reply|footer|sidebar|sponsor|banner|\\bad|ads|advert|related|recommend|share|social|sns|"
+                    + "menu|nav|popular|ranking|copyright|byline|tag|promo");
+    private static final int HINT_WEIGHT = 25;
+    
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("-?[A-Za-z_][A-Za-z0-9_-]*");
+    
+    private ArticleContentExtractor() {
+    }
+    
+    /**
+     * 본문 텍스트를 반환합니다. 본문 블록을 찾지 못하면 body 전체 텍스트, 그것도 짧으면 null
+     */
+    public static String extract(Document doc) {
+        String text = contentText(findContentElement(doc));
+        return text != null ? text : fallbackText(doc);
+    }
+    
+    /**
+     * 요소의 텍스트가 본문으로 인정할 만큼 길면 반환합니다. (아니면 null)
+     */
+    public static String contentText(Element element) {
+        if (element == null) {
+            return null;
+        }
+        String text = element.text().trim();
+        return text.length() > MIN_CONTENT_LENGTH ? text : null;
+    }
+    
+    /**
+     * 본문 블록을 찾지 못했을 때 사용할 body 전체 텍스트 (짧으면 null)
+     */
+    public static String fallbackText(Document doc) {
+        String bodyText = doc.body() != null ? bodyText(doc.body()) : "";
+        return bodyText.length() > MIN_BODY_LENGTH ? bodyText : null;
+    }
+    
+    /**
+     * 요소를 다시 찾을 수 있는 CSS 셀렉터 (tag#id 또는 tag.class). 식별자가 없거나 문서에서 유일하지 않으면 null
+     */
+    public static String selectorFor(Element element) {
+        String selector = null;
+        if (CSS_IDENTIFIER.matcher(element.id()).matches()) {
+            selector = element.normalName() + "#" + element.id();
+        } else {
+            StringBuilder classes = new StringBuilder();
+            for (String className : element.classNames()) {
+                if (CSS_IDENTIFIER.matcher(className).matches()) {
+                    classes.append('.').append(className);
+                }
+            }
+            if (!classes.isEmpty()) {
+                selector = element.normalName() + classes;
+            }
+        }
+        if (selector == null || element.ownerDocument() == null
+                || element.ownerDocument().select(selector).size() != 1) {
+            return null;
+        }
+        return selector;
+    }
+    
+    /**
+     * 점수가 가장 높은 본문 후보 요소 (후보가 없으면 null)
+     */
+    public static Element findContentElement(Document doc) {
+        if (doc.body() == null) {
+            return null;
+        }
+        ScoringFilter scoring = new ScoringFilter();
+        NodeTraversor.filter(scoring, doc.body());
+        
+        Element best = null;
+        double bestScore = 0;
+        for (Map.Entry<Element, Double> entry : scoring.contentScores.entrySet()) {
+            Element candidate = entry.getKey();
+            Stats stats = scoring.stats.get(candidate);
+            double linkDensity = stats == null || stats.textLength == 0 ? 0 : (double) stats.linkTextLength / stats.textLength;
+            double score = (entry.getValue() + classWeight(candidate)) * (1 - linkDensity);
+            if (score > bestScore) {
+                bestScore = score;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+    
+    static int classWeight(Element element) {
+        String hint = (element.className() + " " + element.id()).toLowerCase(Locale.ROOT);
+        if (hint.isBlank()) {
+            return 0;
+        }
+        int weight = 0;
+        if (POSITIVE_HINT.matcher(hint).find()) {
+            weight += HINT_WEIGHT;
+        }
+        if (NEGATIVE_HINT.matcher(hint).find()) {
+            weight -= HINT_WEIGHT;
+        }
+        return weight;
+    }
+    
+    // 잡음 태그를 제외한 body 텍스트 (본문 후보가 없을 때만 사용)
+    private static String bodyText(Element body) {
+        StringBuilder text = new StringBuilder();
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof Element element && SKIPPED_TAGS.contains(element.normalName())) {
+                    return FilterResult.SKIP_ENTIRELY;
+                }
+                if (node instanceof TextNode textNode && !textNode.isBlank()) {
+                    if (!text.isEmpty()) {
+                        text.append(' ');
+                    }
+                    text.append(textNode.text().trim());
+                }
+                return FilterResult.CONTINUE;
+            }
+            
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                return FilterResult.CONTINUE;
+            }
+        }, body);
+        return text.toString();
+    }
+    
+    private static double paragraphScore(int length, int commas) {
+        return 1 + commas + Math.min(length / 100.0, 3);
+    }
+    
+    /**
+     * 요소별 텍스트 길이(자손 포함), 링크 텍스트 길이, 직접 텍스트 길이/쉼표 수
+     */
+    private static final class Stats {
+        int textLength;
+        int linkTextLength;
+        int ownTextLength;
+        int ownCommas;
+    }
+    
+    /**
+     * 한 번의 순회로 텍스트 통계를 자식 → 부모로 모으고, 문단을 만날 때마다 부모/조부모 점수를 올립니다.
+     */
+    private static final class ScoringFilter implements NodeFilter {
+        
+        private final Map<Element, Stats> stats = new IdentityHashMap<>();
+        private final Map<Element, Double> contentScores = new IdentityHashMap<>();
+        private int linkDepth = 0;
+        
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (node instanceof Element element) {
+                String tag = element.normalName();
+                if (SKIPPED_TAGS.contains(tag)) {
+                    return FilterResult.SKIP_ENTIRELY;
+                }
+                if (tag.equals("a")) {
+                    linkDepth++;
+                }
+                return FilterResult.CONTINUE;
+            }
+            if (node instanceof TextNode textNode && !textNode.isBlank()) {
+                String text = textNode.text();
+                int length = text.trim().length();
+                Element owner = blockOwner(textNode.parent());
+                if (owner != null) {
+                    Stats ownerStats = statsOf(owner);
+                    ownerStats.ownTextLength += length;
+                    ownerStats.ownCommas += countCommas(text);
+                }
+                if (textNode.parent() instanceof Element parent) {
+                    Stats parentStats = statsOf(parent);
+                    parentStats.textLength += length;
+                    if (linkDepth > 0) {
+                        parentStats.linkTextLength += length;
+                    }
+                }
+            }
+            return FilterResult.CONTINUE;
+        }
+        
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (!(node instanceof Element element)) {
+                return FilterResult.CONTINUE;
+            }
+            String tag = element.normalName();
+            if (tag.equals("a")) {
+                linkDepth--;
+            }
+            
+            Stats own = stats.get(element);
+            if (own == null) {
+                return FilterResult.CONTINUE;
+            }
+            // 자식 순회가 모두 끝났으므로 합계를 부모로 올림
+            Element parent = element.parent();
+            if (parent != null) {
+                Stats parentStats = statsOf(parent);
+                parentStats.textLength += own.textLength;
+                parentStats.linkTextLength += own.linkTextLength;
+            }
+            
+            if (PARAGRAPH_TAGS.contains(tag)) {
+                if (own.textLength >= MIN_PARAGRAPH_LENGTH) {
+                    addScore(parent, paragraphScore(own.textLength, own.ownCommas));
+                }
+            } else if (own.ownTextLength >= MIN_PARAGRAPH_LENGTH) {
+                // <br>로 문단을 나누는 페이지: 블록의 직접 텍스트를 문단으로 보고 블록 자신을 후보로 함
+                addScore(element, paragraphScore(own.ownTextLength, own.ownCommas));
+            }
+            return FilterResult.CONTINUE;
+        }
+        
+        private void addScore(Element element, double score) {
+            if (element == null) {
+                return;
+            }
+            contentScores.merge(element, score, Double::sum);
+            Element grandparent = element.parent();
+            if (grandparent != null && !grandparent.normalName().equals("body")) {
+                contentScores.merge(grandparent, score / 2, Double::sum);
+            }
+        }
+        
+        private Stats statsOf(Element element) {
+            return stats.computeIfAbsent(element, key -> new Stats());
+        }
+        
+        private static Element blockOwner(Node parent) {
+            Node current = parent;
+            while (current instanceof Element element && INLINE_TAGS.contains(element.normalName())) {
+                current = element.parent();
+            }
+            return current instanceof Element element ? element : null;
+        }
+        
+        private static int countCommas(String text) {
+            int count = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == ',' || c == '，' || c == '、') {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+import lombok.Getter;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 미리 해석해 둔 CSS 셀렉터
+ * doc.select(String)은 호출할 때마다 쿼리를 다시 해석하므로, 반복해서 쓰는 셀렉터는 정적 필드에 Evaluator로 보관합니다.
+ * fallback 셀렉터는 거의 모든 페이지에서 무언가를 찾는 넓은 셀렉터로, 결과는 사용하지만 호스트별로 학습하지 않습니다.
+ */
+@Getter
+public final class CompiledSelector {
+    
+    private final String query;
+    private final Evaluator evaluator;
+    private final boolean fallback;
+    
+    private CompiledSelector(String query, Evaluator evaluator, boolean fallback) {
+        this.query = query;
+        this.evaluator = evaluator;
+        this.fallback = fallback;
+    }
+    
+    /**
+     * 셀렉터를 해석합니다. 잘못된 셀렉터면 Selector.SelectorParseException
+     */
+    public static CompiledSelector of(String query) {
+        return new CompiledSelector(query, QueryParser.parse(query), false);
+    }
+    
+    public static List<CompiledSelector> listOf(String... queries) {
+        return Arrays.stream(queries).map(CompiledSelector::of).toList();
+    }
+    
+    /**
+     * 셀렉터 목록 뒤에 학습하지 않는 최후 수단 셀렉터를 덧붙입니다.
+     */
+    public static List<CompiledSelector> withFallbacks(List<CompiledSelector> selectors, String... fallbackQueries) {
+        Stream<CompiledSelector> fallbacks = Arrays.stream(fallbackQueries)
+                .map(query -> new CompiledSelector(query, QueryParser.parse(query), true));
+        return Stream.concat(selectors.stream(), fallbacks).toList();
+    }
+    
+    @Override
+    public String toString() {
+        return query;
+    }
+}
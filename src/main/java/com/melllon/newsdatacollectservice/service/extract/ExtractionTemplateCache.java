@@ -0,0 +1,191 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.ExtractionTemplate;
+import com.melllon.newsdatacollectservice.repository.ExtractionTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 호스트별로 실제 결과를 낸 셀렉터를 기억해 다음 페이지에서 먼저 시도합니다.
+ * - 학습한 셀렉터가 실패하면 셀렉터 목록(또는 본문 점수 계산)으로 처리하고 실패를 기록
+ * - 최근 성공률이 기준보다 떨어지면 그때 성공한 셀렉터로 다시 학습
+ * - 최후 수단(fallback) 셀렉터는 결과를 사용하되 학습하지 않음 (넓은 셀렉터가 학습되면 항상 성공으로 기록되어 재학습되지 않음)
+ * - 학습 결과는 extraction_templates에 저장되어 재시작 후에도 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExtractionTemplateCache {
+    
+    public static final String NAVER_LISTING = "NAVER_LISTING";
+    public static final String NAVER_TITLE = "NAVER_TITLE";
+    public static final String NAVER_CONTENT = "NAVER_CONTENT";
+    public static final String ARTICLE_CONTENT = "ARTICLE_CONTENT";
+    
+    private final ExtractionTemplateRepository extractionTemplateRepository;
+    private final CrawlerProperties crawlerProperties;
+    
+    private final Map<String, LearnedTemplate> templates = new ConcurrentHashMap<>();
+    
+    /**
+     * 저장된 학습 결과를 불러옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            int window = crawlerProperties.getExtraction().getWindow();
+            for (ExtractionTemplate template : extractionTemplateRepository.findAll()) {
+                try {
+                    templates.put(key(template.getHost(), template.getField()),
+                                  new LearnedTemplate(CompiledSelector.of(template.getSelector()), window));
+                } catch (Selector.SelectorParseException e) {
+                    log.warn("저장된 추출 셀렉터를 해석할 수 없어 건너뜁니다: {} {}", template.getHost(), template.getSelector());
+                }
+            }
+            log.info("추출 셀렉터 학습 결과 {}개 적재", templates.size());
+        } catch (Exception e) {
+            log.warn("추출 셀렉터 학습 결과 적재 실패, 셀렉터 목록부터 다시 학습합니다: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 학습한 셀렉터를 먼저 시도하고, 실패하면 셀렉터 목록을 순서대로 시도합니다.
+     * attempt는 셀렉터로 값을 찾지 못하면 null을 반환해야 합니다.
+     */
+    public <T> T extract(String host, String field, List<CompiledSelector> selectors, Function<CompiledSelector, T> attempt) {
+        LearnedTemplate learned = templates.get(key(host, field));
+        if (learned != null && isFallback(learned.getSelector(), selectors)) {
+            // 이전 버전에서 학습/저장된 넓은 셀렉터는 버리고 다음 성공한 셀렉터로 다시 학습
+            log.info("최후 수단 셀렉터로 학습된 추출 셀렉터를 버립니다: {} {} {}", host, field, learned.getSelector());
+            templates.remove(key(host, field), learned);
+            learned = null;
+        }
+        if (learned != null) {
+            T result = attempt.apply(learned.getSelector());
+            learned.record(result != null);
+            if (result != null) {
+                return result;
+            }
+        }
+        
+        for (CompiledSelector selector : selectors) {
+            if (learned != null && selector.getQuery().equals(learned.getSelector().getQuery())) {
+                continue;
+            }
+            T result = attempt.apply(selector);
+            if (result != null) {
+                if (!selector.isFallback()) {
+                    learn(host, field, learned, selector);
+                }
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isFallback(CompiledSelector learned, List<CompiledSelector> selectors) {
+        return selectors.stream()
+                .anyMatch(selector -> selector.isFallback() && selector.getQuery().equals(learned.getQuery()));
+    }
+    
+    /**
+     * 언론사 기사 본문을 추출합니다. 학습한 본문 블록 셀렉터가 없거나 실패하면 본문 점수 계산으로 찾고, 찾은 블록의 셀렉터를 학습합니다.
+     */
+    public String extractArticle(String url, Document doc) {
+        String host = hostOf(url);
+        LearnedTemplate learned = host != null ? templates.get(key(host, ARTICLE_CONTENT)) : null;
+        if (learned != null) {
+            String text = ArticleContentExtractor.contentText(doc.selectFirst(learned.getSelector().getEvaluator()));
+            learned.record(text != null);
+            if (text != null) {
+                return text;
+            }
+        }
+        
+        Element content = ArticleContentExtractor.findContentElement(doc);
+        String text = ArticleContentExtractor.contentText(content);
+        if (text == null) {
+            return ArticleContentExtractor.fallbackText(doc);
+        }
+        if (host != null) {
+            String selector = ArticleContentExtractor.selectorFor(content);
+            if (selector != null && (learned == null || !selector.equals(learned.getSelector().getQuery()))) {
+                learn(host, ARTICLE_CONTENT, learned, CompiledSelector.of(selector));
+            }
+        }
+        return text;
+    }
+    
+    public int size() {
+        return templates.size();
+    }
+    
+    private void learn(String host, String field, LearnedTemplate current, CompiledSelector selector) {
+        CrawlerProperties.Extraction config = crawlerProperties.getExtraction();
+        if (current != null && !current.needsRelearning(config.getMinSamples(), config.getMinSuccessRate())) {
+            return;
+        }
+        String key = key(host, field);
+        LearnedTemplate replacement = new LearnedTemplate(selector, config.getWindow());
+        // 다른 스레드가 먼저 학습했으면 그 결과를 유지
+        boolean replaced = current == null
+                ? templates.putIfAbsent(key, replacement) == null
+                : templates.replace(key, current, replacement);
+        if (!replaced) {
+            return;
+        }
+        
+        if (current == null) {
+            log.info("추출 셀렉터 학습: {} {} → {}", host, field, selector);
+        } else {
+            log.info("추출 셀렉터 재학습 (최근 성공률 {}%): {} {} {} → {}",
+                     Math.round(current.successRate() * 100), host, field, current.getSelector(), selector);
+        }
+        persist(host, field, selector.getQuery());
+    }
+    
+    private void persist(String host, String field, String selector) {
+        try {
+            ExtractionTemplate template = extractionTemplateRepository.findByHostAndField(host, field)
+                    .orElseGet(() -> ExtractionTemplate.builder().host(host).field(field).build());
+            template.setSelector(selector);
+            extractionTemplateRepository.save(template);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 같은 호스트/대상을 먼저 저장한 경우
+            log.debug("추출 셀렉터가 이미 저장되어 있습니다: {} {}", host, field);
+        } catch (Exception e) {
+            log.warn("추출 셀렉터 저장 실패: {} {} - {}", host, field, e.getMessage());
+        }
+    }
+    
+    private static String key(String host, String field) {
+        return host + "|" + field;
+    }
+    
+    static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
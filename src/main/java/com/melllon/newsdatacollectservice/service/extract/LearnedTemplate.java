@@ -0,0 +1,45 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+/**
+ * 학습한 셀렉터와 최근 시도 결과 (최근 window번의 성공/실패를 비트로 보관)
+ */
+class LearnedTemplate {
+    
+    private static final int MAX_WINDOW = 64;
+    
+    private final CompiledSelector selector;
+    private final int window;
+    private long outcomes;
+    private int samples;
+    
+    LearnedTemplate(CompiledSelector selector, int window) {
+        this.selector = selector;
+        this.window = Math.max(1, Math.min(window, MAX_WINDOW));
+    }
+    
+    CompiledSelector getSelector() {
+        return selector;
+    }
+    
+    synchronized void record(boolean success) {
+        outcomes = (outcomes << 1) | (success ? 1 : 0);
+        if (samples < window) {
+            samples++;
+        }
+    }
+    
+    synchronized double successRate() {
+        if (samples == 0) {
+            return 1.0;
+        }
+        long mask = window == MAX_WINDOW ? -1L : (1L << window) - 1;
+        return (double) Long.bitCount(outcomes & mask) / samples;
+    }
+    
+    /**
+     * 시도가 충분히 쌓였고 최근 성공률이 기준보다 낮으면 다시 학습해야 함
+     */
+    synchronized boolean needsRelearning(int minSamples, double minSuccessRate) {
+        return samples >= minSamples && successRate() < minSuccessRate;
+    }
+}
@@ -0,0 +1,12 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import java.io.IOException;
+
+/**
+ * FetchGateway를 통해 실행되는 외부 요청
+ */
+@FunctionalInterface
+public interface FetchCall<T> {
+    
+    T call() throws IOException;
+}
@@ -0,0 +1,126 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모든 외부 요청이 거쳐가는 공용 관문
+ * 호스트별로 초당 요청 수와 동시 요청 수를 제한하여, 동시성을 높여도 특정 호스트에 요청이 몰리지 않도록 합니다.
+ * 호스트당 예산은 하나이며 유효 제한도 하나입니다. (뉴스 사이트 설정 > 호스트별 설정 > 기본값)
+ * 뉴스 사이트 설정은 같은 호스트의 기본 경로 호출(본문, 링크 변환 등)에도 적용되고, 설정이 바뀌면 완화/강화 모두 바로 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FetchGateway {
+    
+    private static final long SLOW_WAIT_LOG_MILLIS = 1000;
+    
+    private final CrawlerProperties crawlerProperties;
+    
+    private final Map<String, HostBudget> budgets = new ConcurrentHashMap<>();
+    
+    // 뉴스 사이트 경로로 마지막에 결정된 호스트별 제한 (같은 호스트의 기본 경로 호출에도 사용)
+    private final Map<String, HostLimits> siteLimits = new ConcurrentHashMap<>();
+    
+    /**
+     * 뉴스 사이트 설정에 따른 제한을 적용하여 요청을 실행합니다.
+     */
+    public <T> T execute(NewsSite newsSite, String url, FetchCall<T> call) throws IOException {
+        String host = hostOf(url);
+        HostLimits limits = resolveLimits(host, newsSite);
+        siteLimits.put(host, limits);
+        return execute(host, limits, call);
+    }
+    
+    /**
+     * 호스트의 유효 제한을 적용하여 요청을 실행합니다. (뉴스 사이트 경로로 정해진 제한이 있으면 그 값)
+     */
+    public <T> T execute(String url, FetchCall<T> call) throws IOException {
+        String host = hostOf(url);
+        HostLimits limits = siteLimits.get(host);
+        return execute(host, limits != null ? limits : resolveLimits(host, null), call);
+    }
+    
+    private <T> T execute(String host, HostLimits limits, FetchCall<T> call) throws IOException {
+        // 호스트당 예산은 하나만 두고, 유효 제한이 바뀌었으면 진행 중인 요청을 유지한 채 반영
+        HostBudget budget = budgets.computeIfAbsent(host, key -> new HostBudget(key, limits));
+        budget.update(limits);
+        
+        long start = System.nanoTime();
+        try {
+            budget.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 대기 중 인터럽트되었습니다: " + host);
+        }
+        
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (waitedMillis >= SLOW_WAIT_LOG_MILLIS) {
+            log.info("호스트 '{}' 요청 예산 대기: {}ms (동시 요청 {}개, 대기열 {}개)",
+                     host, waitedMillis, budget.getInFlight(), budget.getQueueLength());
+        }
+        
+        try {
+            return call.call();
+        } finally {
+            budget.release();
+        }
+    }
+    
+    /**
+     * 호스트별 요청 예산 현황을 반환합니다.
+     */
+    public Collection<HostBudget> getBudgets() {
+        return budgets.values();
+    }
+    
+    /**
+     * 호스트 제한을 항목별로 결정합니다. (뉴스 사이트 설정 > 호스트별 설정 > 기본값)
+     */
+    private HostLimits resolveLimits(String host, NewsSite newsSite) {
+        CrawlerProperties.Fetch config = crawlerProperties.getFetch();
+        
+        double requestsPerSecond = config.getDefaultRequestsPerSecond();
+        int maxConcurrent = config.getDefaultMaxConcurrent();
+        CrawlerProperties.HostLimit hostOverride = config.getHosts().get(host);
+        if (hostOverride != null) {
+            requestsPerSecond = hostOverride.getRequestsPerSecond();
+            maxConcurrent = hostOverride.getMaxConcurrent();
+        }
+        if (newsSite != null) {
+            if (newsSite.getRequestsPerSecond() != null) {
+                requestsPerSecond = newsSite.getRequestsPerSecond();
+            }
+            if (newsSite.getMaxConcurrentRequests() != null) {
+                maxConcurrent = newsSite.getMaxConcurrentRequests();
+            }
+        }
+        return new HostLimits(requestsPerSecond, maxConcurrent);
+    }
+    
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            if (host != null) {
+                return host.toLowerCase(Locale.ROOT);
+            }
+        } catch (IllegalArgumentException e) {
+            // URI로 파싱할 수 없는 URL은 아래에서 문자열로 처리
+        }
+        String withoutScheme = url.replaceFirst("^[a-zA-Z]+://", "");
+        int end = withoutScheme.indexOf('/');
+        return (end >= 0 ? withoutScheme.substring(0, end) : withoutScheme).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.regex.Pattern;
+
+/**
+ * HttpFetchClient의 응답 (상태 코드, 헤더, 본문 바이트)
+ * 네트워크 I/O는 끝난 상태이며, Jsoup은 parse()에서 본문을 해석하는 데만 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FetchResponse {
+    
+    // Jsoup.connect와 같은 기준: application/rss+xml, text/xml 등은 XML 파서로 해석
+    private static final Pattern XML_CONTENT_TYPE = Pattern.compile("(application|text)/\\w*\\+?xml.*");
+    
+    private final String url;
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    
+    public String header(String name) {
+        return headers.getFirst(name);
+    }
+    
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+    
+    /**
+     * 본문을 Jsoup 문서로 해석합니다. 문자셋은 Content-Type 헤더, 없으면 문서의 meta 태그로 판별합니다.
+     */
+    public Document parse() throws IOException {
+        MediaType contentType = headers.getContentType();
+        String charsetName = null;
+        Parser parser = Parser.htmlParser();
+        if (contentType != null) {
+            Charset charset = contentType.getCharset();
+            charsetName = charset != null ? charset.name() : null;
+            if (XML_CONTENT_TYPE.matcher(contentType.toString()).matches()) {
+                parser = Parser.xmlParser();
+            }
+        }
+        return Jsoup.parse(new ByteArrayInputStream(body), charsetName, url, parser);
+    }
+}
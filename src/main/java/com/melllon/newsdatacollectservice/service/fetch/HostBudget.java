@@ -0,0 +1,144 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호스트 하나에 대한 요청 예산
+ * 토큰 버킷으로 요청 속도를, 세마포어로 동시 요청 수를 제한하고 대기 시간을 기록합니다.
+ * 호스트의 유효 제한이 바뀌면 예산을 새로 만들지 않고 그 자리에서 제한을 바꿉니다. (완화/강화 모두)
+ */
+public class HostBudget {
+    
+    @Getter
+    private final String host;
+    
+    @Getter
+    private volatile HostLimits limits;
+    
+    private final AdjustableSemaphore inFlight;
+    private double nanosPerToken;
+    private double burst;
+    
+    // 토큰 버킷 상태 (음수이면 이미 예약된 요청이 있다는 의미)
+    private double tokens;
+    private long lastRefillNanos;
+    
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    
+    public HostBudget(String host, HostLimits limits) {
+        this.host = host;
+        this.limits = limits;
+        this.inFlight = new AdjustableSemaphore(Math.max(1, limits.getMaxConcurrent()));
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / Math.max(0.01, limits.getRequestsPerSecond());
+        this.burst = Math.max(1.0, limits.getRequestsPerSecond());
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+    
+    /**
+     * 제한을 요청된 값으로 바꿉니다. (세마포어, 토큰 버킷, 통계는 유지)
+     * 동시 요청 수를 줄이면 진행 중인 요청이 끝나며 반환하는 허가로 채우고, 늘리면 늘어난 만큼 허가를 바로 풀어 줍니다.
+     */
+    public void update(HostLimits requested) {
+        // 대부분의 호출은 제한이 그대로이므로 잠금 없이 확인
+        if (limits.equals(requested)) {
+            return;
+        }
+        synchronized (this) {
+            HostLimits current = limits;
+            if (current.equals(requested)) {
+                return;
+            }
+        
+            int delta = Math.max(1, requested.getMaxConcurrent()) - Math.max(1, current.getMaxConcurrent());
+            if (delta < 0) {
+                inFlight.reducePermits(-delta);
+            } else if (delta > 0) {
+                inFlight.release(delta);
+            }
+            nanosPerToken = TimeUnit.SECONDS.toNanos(1) / Math.max(0.01, requested.getRequestsPerSecond());
+            burst = Math.max(1.0, requested.getRequestsPerSecond());
+            tokens = Math.min(tokens, burst);
+            limits = requested;
+        }
+    }
+    
+    /**
+     * 동시 요청 슬롯과 속도 토큰을 확보합니다. 확보할 때까지 블로킹됩니다.
+     */
+    public void acquire() throws InterruptedException {
+        long start = System.nanoTime();
+        inFlight.acquire();
+        try {
+            long waitNanos = reserveToken();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            inFlight.release();
+            throw e;
+        }
+        recordWait(System.nanoTime() - start);
+    }
+    
+    public void release() {
+        inFlight.release();
+    }
+    
+    private synchronized long reserveToken() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+    }
+    
+    private void recordWait(long waitNanos) {
+        requestCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+    
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+    
+    public int getInFlight() {
+        return Math.max(1, limits.getMaxConcurrent()) - inFlight.availablePermits();
+    }
+    
+    /**
+     * 진행 중인 요청에 영향을 주지 않고 허용 수를 줄일 수 있는 세마포어 (줄어든 만큼은 반환되는 허가로 채워짐, 늘릴 때는 release)
+     */
+    private static final class AdjustableSemaphore extends Semaphore {
+        
+        AdjustableSemaphore(int permits) {
+            super(permits, true);
+        }
+        
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+    
+    public int getQueueLength() {
+        return inFlight.getQueueLength();
+    }
+    
+    public double getAverageWaitMillis() {
+        long count = requestCount.sum();
+        return count == 0 ? 0 : totalWaitNanos.sum() / (double) count / 1_000_000;
+    }
+    
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import lombok.Value;
+
+/**
+ * 호스트별 요청 제한 (초당 요청 수, 동시 요청 수)
+ */
+@Value
+public class HostLimits {
+    
+    double requestsPerSecond;
+    int maxConcurrent;
+}
@@ -0,0 +1,146 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * WebClient(Reactor Netty) 기반의 공용 HTTP 클라이언트
+ * 적은 수의 이벤트 루프 스레드가 연결 풀을 공유하며 다수의 다운로드를 동시에 처리합니다.
+ * HTTP/2(ALPN 지원 시), 압축 응답 해제, 리다이렉트 추적을 지원하며 본문은 바이트로 반환합니다.
+ */
+@Component
+public class HttpFetchClient {
+    
+    private final CrawlerProperties crawlerProperties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    // 리다이렉트를 따라가지 않고 3xx 응답(Location 헤더)을 그대로 반환하는 클라이언트 (같은 연결 풀 사용)
+    private final WebClient noRedirectWebClient;
+    
+    public HttpFetchClient(CrawlerProperties crawlerProperties, WebClient.Builder webClientBuilder) {
+        this.crawlerProperties = crawlerProperties;
+        CrawlerProperties.Http config = crawlerProperties.getHttp();
+        
+        this.connectionProvider = ConnectionProvider.builder("crawler-http")
+                .maxConnections(config.getMaxConnections())
+                .pendingAcquireMaxCount(-1)
+                .maxIdleTime(config.getMaxIdleTime())
+                .build();
+        
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis());
+        
+        this.webClient = buildWebClient(webClientBuilder.clone(), httpClient.followRedirect(true), config);
+        this.noRedirectWebClient = buildWebClient(webClientBuilder.clone(), httpClient.followRedirect(false), config);
+    }
+    
+    private static WebClient buildWebClient(WebClient.Builder builder, HttpClient httpClient, CrawlerProperties.Http config) {
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) config.getMaxBodySize().toBytes()))
+                .defaultHeader(HttpHeaders.USER_AGENT, config.getUserAgent())
+                .build();
+    }
+    
+    /**
+     * 비동기 GET 요청. 응답 상태와 관계없이 본문을 모두 받은 뒤 완료됩니다.
+     */
+    public Mono<FetchResponse> getAsync(String url, Map<String, String> headers, Duration timeout) {
+        return exchange(webClient.get().uri(url).headers(httpHeaders -> headers.forEach(httpHeaders::set)), url, timeout);
+    }
+    
+    private Mono<FetchResponse> exchange(WebClient.RequestHeadersSpec<?> request, String url, Duration timeout) {
+        return request
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(new byte[0])
+                        .map(body -> new FetchResponse(url, response.statusCode().value(),
+                                response.headers().asHttpHeaders(), body)))
+                .timeout(timeout);
+    }
+    
+    /**
+     * 응답을 기다리는 GET 요청 (크롤링 가상 스레드에서 호출)
+     * 대기하는 동안 실제 I/O는 이벤트 루프가 처리하며, 호출 스레드가 인터럽트되면 요청을 취소합니다.
+     */
+    public FetchResponse get(String url, Map<String, String> headers, Duration timeout) throws IOException {
+        return await(getAsync(url, headers, timeout), url, timeout);
+    }
+    
+    /**
+     * 리다이렉트를 따라가지 않는 GET 요청 (3xx 응답의 Location 헤더 확인용)
+     */
+    public FetchResponse getWithoutRedirects(String url, Duration timeout) throws IOException {
+        return await(exchange(noRedirectWebClient.get().uri(url), url, timeout), url, timeout);
+    }
+    
+    /**
+     * application/x-www-form-urlencoded 본문의 POST 요청
+     */
+    public FetchResponse postForm(String url, String formBody, Duration timeout) throws IOException {
+        return await(exchange(webClient.post().uri(url)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .bodyValue(formBody), url, timeout), url, timeout);
+    }
+    
+    private FetchResponse await(Mono<FetchResponse> request, String url, Duration timeout) throws IOException {
+        try {
+            return request.block();
+        } catch (RuntimeException e) {
+            Throwable cause = Exceptions.unwrap(e);
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("요청 대기 중 인터럽트되었습니다: " + url);
+            }
+            if (cause instanceof TimeoutException) {
+                throw new SocketTimeoutException("응답 시간(" + timeout.toMillis() + "ms)을 초과했습니다: " + url);
+            }
+            if (cause instanceof WebClientRequestException requestException) {
+                throw new IOException(requestException.getMostSpecificCause().getMessage(), requestException);
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+    
+    /**
+     * 검색 결과 페이지/RSS 요청 (listing-timeout 적용)
+     */
+    public FetchResponse getListing(String url, Map<String, String> headers) throws IOException {
+        return get(url, headers, crawlerProperties.getHttp().getListingTimeout());
+    }
+    
+    /**
+     * 개별 기사 페이지 요청 (article-timeout 적용)
+     */
+    public FetchResponse getArticle(String url) throws IOException {
+        return get(url, Map.of(), crawlerProperties.getHttp().getArticleTimeout());
+    }
+    
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
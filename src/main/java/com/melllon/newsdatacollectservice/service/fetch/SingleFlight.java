@@ -0,0 +1,69 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 키에 대한 동시 요청을 하나로 합칩니다.
+ * 키의 작업이 진행 중이면 새 작업을 시작하지 않고 진행 중인 작업의 결과(또는 예외)를 함께 받습니다.
+ * 작업이 끝나면 키를 바로 제거하므로 결과를 캐시하지는 않습니다.
+ */
+public final class SingleFlight<K, V> {
+    
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    
+    // hit: 진행 중인 작업에 합류, miss: 직접 작업 실행
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    
+    /**
+     * 키의 작업이 진행 중이면 그 결과를 기다리고, 아니면 현재 스레드에서 작업을 실행합니다.
+     */
+    public V execute(K key, Callable<V> call) throws Exception {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            hitCount.increment();
+            return await(existing);
+        }
+        
+        missCount.increment();
+        try {
+            V result = call.call();
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    private static <V> V await(CompletableFuture<V> flight) throws Exception {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,145 @@
+package com.melllon.newsdatacollectservice.service.match;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 문자열 패턴을 한 번의 텍스트 순회로 모두 찾는 Aho-Corasick 오토마톤 (생성 후 변경 불가, 스레드 안전)
+ * 순회 비용은 패턴 수와 관계없이 텍스트 길이 + 찾은 개수에 비례합니다.
+ */
+final class AhoCorasickAutomaton {
+    
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    
+    // (상태 << 16 | 문자) -> 다음 상태
+    private final Map<Long, Integer> transitions;
+    // 실패 시 이동할 상태 (현재 상태 문자열의 가장 긴 진접미사에 해당하는 상태)
+    private final int[] failure;
+    // 실패 링크를 따라가며 처음 만나는, 패턴이 끝나는 상태 (없으면 NONE)
+    private final int[] dictionaryLink;
+    // 이 상태에서 끝나는 패턴 번호 (없으면 NONE)
+    private final int[] patternAt;
+    private final int[] patternLengths;
+    
+    private AhoCorasickAutomaton(Map<Long, Integer> transitions, int[] failure, int[] dictionaryLink,
+                                 int[] patternAt, int[] patternLengths) {
+        this.transitions = transitions;
+        this.failure = failure;
+        this.dictionaryLink = dictionaryLink;
+        this.patternAt = patternAt;
+        this.patternLengths = patternLengths;
+    }
+    
+    /**
+     * 패턴 목록으로 오토마톤을 만듭니다. 패턴 번호는 목록의 인덱스이며, 빈 문자열과 중복 패턴은 무시됩니다.
+     */
+    static AhoCorasickAutomaton build(List<String> patterns) {
+        Map<Long, Integer> transitions = new HashMap<>();
+        List<Integer> terminal = new ArrayList<>();
+        terminal.add(NONE);
+        int[] patternLengths = new int[patterns.size()];
+        
+        // 1. 패턴으로 트라이 구성
+        for (int index = 0; index < patterns.size(); index++) {
+            String pattern = patterns.get(index);
+            patternLengths[index] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                long key = key(state, pattern.charAt(i));
+                Integer next = transitions.get(key);
+                if (next == null) {
+                    next = terminal.size();
+                    terminal.add(NONE);
+                    transitions.put(key, next);
+                }
+                state = next;
+            }
+            if (terminal.get(state) == NONE) {
+                terminal.set(state, index);
+            }
+        }
+        
+        // 2. 너비 우선으로 실패 링크와 출력(사전) 링크 계산
+        int stateCount = terminal.size();
+        int[] patternAt = terminal.stream().mapToInt(Integer::intValue).toArray();
+        int[] failure = new int[stateCount];
+        int[] dictionaryLink = new int[stateCount];
+        Arrays.fill(dictionaryLink, NONE);
+        
+        List<List<long[]>> children = new ArrayList<>(stateCount);
+        for (int i = 0; i < stateCount; i++) {
+            children.add(new ArrayList<>());
+        }
+        transitions.forEach((key, child) -> children.get((int) (key >>> 16)).add(new long[]{key & 0xFFFF, child}));
+        
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (long[] edge : children.get(ROOT)) {
+            failure[(int) edge[1]] = ROOT;
+            queue.add((int) edge[1]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (long[] edge : children.get(state)) {
+                char c = (char) edge[0];
+                int child = (int) edge[1];
+                int fallback = failure[state];
+                Integer next;
+                while ((next = transitions.get(key(fallback, c))) == null && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next != null ? next : ROOT;
+                int suffix = failure[child];
+                dictionaryLink[child] = patternAt[suffix] != NONE ? suffix : dictionaryLink[suffix];
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickAutomaton(transitions, failure, dictionaryLink, patternAt, patternLengths);
+    }
+    
+    /**
+     * 텍스트에서 찾은 모든 패턴 위치(겹치는 경우 포함)를 리스너로 전달합니다.
+     */
+    void scan(CharSequence text, MatchListener listener) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next;
+            while ((next = transitions.get(key(state, c))) == null && state != ROOT) {
+                state = failure[state];
+            }
+            state = next != null ? next : ROOT;
+            
+            int output = patternAt[state] != NONE ? state : dictionaryLink[state];
+            while (output != NONE) {
+                int pattern = patternAt[output];
+                listener.onMatch(pattern, i + 1 - patternLengths[pattern], i + 1);
+                output = dictionaryLink[output];
+            }
+        }
+    }
+    
+    int getStateCount() {
+        return failure.length;
+    }
+    
+    private static long key(int state, char c) {
+        return ((long) state << 16) | c;
+    }
+    
+    /**
+     * 패턴 번호와 텍스트 안의 위치 [start, end)
+     */
+    @FunctionalInterface
+    interface MatchListener {
+        void onMatch(int pattern, int start, int end);
+    }
+}
@@ -0,0 +1,128 @@
+package com.melllon.newsdatacollectservice.service.match;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 수집한 기사의 제목/본문에 언급된 활성 키워드를 모두 찾습니다.
+ * 활성 키워드 전체로 Aho-Corasick 오토마톤을 만들어 두고, 키워드가 바뀔 때마다 새로 만들어 교체합니다.
+ * - 정규화: NFKC(전각 영문/숫자, 호환 자모 → 일반 문자, 한글 조합) + 소문자 + 공백 정리
+ * - 영문/숫자로 시작하거나 끝나는 키워드는 단어 경계에서만 인정 ("AI"가 "SAID"에 걸리지 않도록)
+ * - 한글은 조사가 바로 붙으므로("인공지능은") 경계를 검사하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordMatcher {
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private final KeywordRepository keywordRepository;
+    
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+    
+    /**
+     * 키워드 변경이 커밋된 뒤 매칭기를 다시 만듭니다. (트랜잭션 밖에서 발행된 경우 바로 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeywordsChanged(KeywordsChangedEvent event) {
+        rebuild();
+    }
+    
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Keyword> activeKeywords = keywordRepository.findByIsActiveTrue();
+        
+        // 정규화한 형태가 같은 키워드(여러 사용자의 "AI" 등)는 패턴 하나로 묶음
+        Map<String, List<Long>> keywordIdsByTerm = new LinkedHashMap<>();
+        for (Keyword keyword : activeKeywords) {
+            String term = normalize(keyword.getKeyword());
+            if (!term.isEmpty()) {
+                keywordIdsByTerm.computeIfAbsent(term, key -> new ArrayList<>()).add(keyword.getId());
+            }
+        }
+        
+        List<String> terms = new ArrayList<>(keywordIdsByTerm.keySet());
+        AhoCorasickAutomaton automaton = AhoCorasickAutomaton.build(terms);
+        snapshot = new Snapshot(automaton, terms, new ArrayList<>(keywordIdsByTerm.values()));
+        log.info("[키워드 매칭] 활성 키워드 {}개(고유 {}개, 상태 {}개)로 매칭기 구성 완료 ({}ms)",
+                 activeKeywords.size(), terms.size(), automaton.getStateCount(), System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * 텍스트들에 언급된 활성 키워드 ID를 반환합니다. 각 텍스트는 한 번만 순회합니다.
+     */
+    public Set<Long> match(String... texts) {
+        Snapshot current = snapshot;
+        Set<Long> keywordIds = new HashSet<>();
+        if (current.terms.isEmpty()) {
+            return keywordIds;
+        }
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            String normalized = normalize(text);
+            current.automaton.scan(normalized, (pattern, start, end) -> {
+                if (isWordBounded(normalized, current.terms.get(pattern), start, end)) {
+                    keywordIds.addAll(current.keywordIds.get(pattern));
+                }
+            });
+        }
+        return keywordIds;
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String compatible = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(compatible.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+    
+    private static boolean isWordBounded(String text, String term, int start, int end) {
+        if (isAsciiAlphanumeric(term.charAt(0)) && start > 0 && isAsciiAlphanumeric(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(isAsciiAlphanumeric(term.charAt(term.length() - 1))
+                && end < text.length() && isAsciiAlphanumeric(text.charAt(end)));
+    }
+    
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+    
+    /**
+     * 한 번에 교체되는 매칭기 상태 (패턴 번호 = terms/keywordIds 인덱스)
+     */
+    @RequiredArgsConstructor
+    private static final class Snapshot {
+        
+        static final Snapshot EMPTY = new Snapshot(AhoCorasickAutomaton.build(List.of()), List.of(), List.of());
+        
+        private final AhoCorasickAutomaton automaton;
+        private final List<String> terms;
+        private final List<List<Long>> keywordIds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.melllon.newsdatacollectservice.service.match;
+
+/**
+ * 키워드가 등록/활성 상태 변경/삭제되었음을 알리는 이벤트 (키워드 매칭기 재구성용)
+ */
+public class KeywordsChangedEvent {
+}
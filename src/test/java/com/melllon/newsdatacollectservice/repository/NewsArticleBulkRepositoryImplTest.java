@@ -0,0 +1,190 @@
+package com.melllon.newsdatacollectservice.repository;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// schema-test.sql / data-test.sql로 초기화한 H2(MySQL 모드)에서 MERGE 문을 실제로 실행하여 검증
+@JdbcTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:bulkrepositorytest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+class NewsArticleBulkRepositoryImplTest {
+    
+    // data-test.sql의 'AI' 키워드
+    private static final long AI_KEYWORD_ID = 1L;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private NewsArticleBulkRepositoryImpl bulkRepository;
+    
+    // data-test.sql의 네이버 뉴스 사이트
+    private final NewsSite naver = NewsSite.builder().id(1L).name("네이버 뉴스").build();
+    
+    @BeforeEach
+    void setUp() {
+        bulkRepository = new NewsArticleBulkRepositoryImpl(jdbcTemplate);
+    }
+    
+    @Test
+    void insertIfAbsent_BatchWithExistingUrlHash_InsertsOnlyNewRows() {
+        // given
+        NewsArticle existing = article("https://n.news.naver.com/mnews/article/001/0000000001");
+        bulkRepository.insertIfAbsent(List.of(existing));
+        NewsArticle first = article("https://n.news.naver.com/mnews/article/001/0000000002");
+        NewsArticle second = article("https://n.news.naver.com/mnews/article/001/0000000003");
+        
+        // when
+        ArticleIngestResult result = bulkRepository.insertIfAbsent(List.of(first, existing, second));
+        
+        // then
+        assertEquals(2, result.getInsertedCount());
+        assertEquals(1, result.getSkippedCount());
+        assertEquals(List.of(first, second), result.getInsertedArticles());
+        assertEquals(3, countArticles());
+        assertEquals(1, countArticlesWithHash(existing.getUrlHash()));
+    }
+    
+    @Test
+    void insertIfAbsent_DuplicateUrlHashWithinBatch_InsertsOnce() {
+        // given
+        NewsArticle article = article("https://n.news.naver.com/mnews/article/001/0000000004");
+        NewsArticle duplicate = article.toBuilder().title("같은 기사, 다른 제목").build();
+        
+        // when
+        ArticleIngestResult result = bulkRepository.insertIfAbsent(List.of(article, duplicate));
+        
+        // then
+        assertEquals(List.of(article), result.getInsertedArticles());
+        assertEquals(1, result.getSkippedCount());
+        assertEquals(1, countArticlesWithHash(article.getUrlHash()));
+    }
+    
+    @Test
+    void insertIfAbsent_EmptyBatch_ReturnsEmptyResult() {
+        // when
+        ArticleIngestResult result = bulkRepository.insertIfAbsent(List.of());
+        
+        // then
+        assertEquals(0, result.getInsertedCount());
+        assertEquals(0, result.getSkippedCount());
+        assertEquals(0, countArticles());
+    }
+    
+    @Test
+    void executeOneByOne_ExistingUrlHash_ReturnsZeroOnlyForExistingRow() {
+        // given
+        NewsArticle existing = article("https://n.news.naver.com/mnews/article/001/0000000005");
+        bulkRepository.insertIfAbsent(List.of(existing));
+        NewsArticle fresh = article("https://n.news.naver.com/mnews/article/001/0000000006");
+        
+        // when
+        int[] counts = bulkRepository.executeOneByOne(List.of(existing, fresh), LocalDateTime.now());
+        
+        // then
+        assertArrayEquals(new int[]{0, 1}, counts);
+        assertEquals(2, countArticles());
+    }
+    
+    @Test
+    void linkKeywords_NewLink_LinksStoredArticle() {
+        // given
+        NewsArticle stored = article("https://n.news.naver.com/mnews/article/001/0000000011");
+        bulkRepository.insertIfAbsent(List.of(stored));
+        
+        // when
+        int linked = bulkRepository.linkKeywords(Map.of(stored.getUrlHash(), Set.of(AI_KEYWORD_ID)));
+        
+        // then
+        assertEquals(1, linked);
+        assertEquals(1, countLinks(stored.getUrlHash(), AI_KEYWORD_ID));
+    }
+    
+    @Test
+    void linkKeywords_DuplicateLink_AffectsNoRows() {
+        // given
+        NewsArticle stored = article("https://n.news.naver.com/mnews/article/001/0000000012");
+        bulkRepository.insertIfAbsent(List.of(stored));
+        bulkRepository.linkKeywords(Map.of(stored.getUrlHash(), Set.of(AI_KEYWORD_ID)));
+        
+        // when
+        int linked = bulkRepository.linkKeywords(Map.of(stored.getUrlHash(), Set.of(AI_KEYWORD_ID)));
+        
+        // then
+        assertEquals(0, linked);
+        assertEquals(1, countLinks(stored.getUrlHash(), AI_KEYWORD_ID));
+    }
+    
+    @Test
+    void linkKeywords_UnknownUrlHash_AffectsNoRows() {
+        // given
+        long unknownUrlHash = UrlCanonicalizer.hash("https://n.news.naver.com/mnews/article/001/0000009999");
+        
+        // when
+        int linked = bulkRepository.linkKeywords(Map.of(unknownUrlHash, Set.of(AI_KEYWORD_ID)));
+        
+        // then
+        assertEquals(0, linked);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_keywords", Integer.class));
+    }
+    
+    @Test
+    void linkKeywords_DeletedKeyword_SkipsOnlyFailedLink() {
+        // given: 수집 도중 삭제된 키워드는 외래 키 위반으로 배치가 실패하고 개별 저장으로 재시도됨
+        NewsArticle stored = article("https://n.news.naver.com/mnews/article/001/0000000013");
+        bulkRepository.insertIfAbsent(List.of(stored));
+        jdbcTemplate.update("INSERT INTO keywords (keyword, user_id) VALUES ('삭제될 키워드', 1)");
+        long deletedKeywordId = jdbcTemplate.queryForObject(
+                "SELECT id FROM keywords WHERE keyword = '삭제될 키워드'", Long.class);
+        jdbcTemplate.update("DELETE FROM keywords WHERE id = ?", deletedKeywordId);
+        
+        // when
+        int linked = bulkRepository.linkKeywords(
+                Map.of(stored.getUrlHash(), List.of(deletedKeywordId, AI_KEYWORD_ID)));
+        
+        // then
+        assertEquals(1, linked);
+        assertEquals(1, countLinks(stored.getUrlHash(), AI_KEYWORD_ID));
+        assertEquals(0, countLinks(stored.getUrlHash(), deletedKeywordId));
+    }
+    
+    private NewsArticle article(String url) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        return NewsArticle.builder()
+                .title("기사 " + url.substring(url.lastIndexOf('/') + 1))
+                .url(canonicalUrl)
+                .urlHash(UrlCanonicalizer.hash(canonicalUrl))
+                .newsSite(naver)
+                .build();
+    }
+    
+    private int countArticles() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_articles", Integer.class);
+    }
+    
+    private int countArticlesWithHash(long urlHash) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_articles WHERE url_hash = ?", Integer.class, urlHash);
+    }
+    
+    private int countLinks(long urlHash, long keywordId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM article_keywords ak JOIN news_articles na ON na.id = ak.article_id " +
+                "WHERE na.url_hash = ? AND ak.keyword_id = ?", Integer.class, urlHash, keywordId);
+    }
+}
@@ -8,12 +8,14 @@ import com.melllon.newsdatacollectservice.exception.KeywordAlreadyExistsExceptio
 import com.melllon.newsdatacollectservice.exception.KeywordNotFoundException;
 import com.melllon.newsdatacollectservice.repository.KeywordRepository;
 import com.melllon.newsdatacollectservice.repository.UserRepository;
+import com.melllon.newsdatacollectservice.service.match.KeywordsChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,6 +34,9 @@ class KeywordServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private KeywordService keywordService;
@@ -79,6 +84,7 @@ class KeywordServiceTest {
         verify(userRepository).findById(1L);
         verify(keywordRepository).existsByUserAndKeyword(testUser, "AI");
         verify(keywordRepository).save(any(Keyword.class));
+        verify(eventPublisher).publishEvent(any(KeywordsChangedEvent.class));
     }
 
     @Test
@@ -139,6 +145,7 @@ class KeywordServiceTest {
         // then
         verify(keywordRepository).findById(1L);
         verify(keywordRepository).delete(testKeyword);
+        verify(eventPublisher).publishEvent(any(KeywordsChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,116 @@
+package com.melllon.newsdatacollectservice.service;
+
+import com.melllon.newsdatacollectservice.dto.response.NewsArticleResponse;
+import com.melllon.newsdatacollectservice.entity.ArticleKeyword;
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.repository.ArticleKeywordRepository;
+import com.melllon.newsdatacollectservice.repository.NewsArticleRepository;
+import com.melllon.newsdatacollectservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsArticleServiceTest {
+    
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+    
+    @Mock
+    private ArticleKeywordRepository articleKeywordRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private NewsArticleService newsArticleService;
+    
+    private NewsArticle article;
+    private Keyword ai;
+    private Keyword artificialIntelligence;
+    
+    @BeforeEach
+    void setUp() {
+        NewsSite naver = NewsSite.builder().id(1L).name("네이버 뉴스").build();
+        article = NewsArticle.builder()
+                .id(10L)
+                .title("AI 반도체 수출 증가")
+                .url("https://n.news.naver.com/mnews/article/001/0000000001")
+                .newsSite(naver)
+                .collectedAt(LocalDateTime.now())
+                .build();
+        ai = Keyword.builder().id(1L).keyword("AI").build();
+        artificialIntelligence = Keyword.builder().id(2L).keyword("인공지능").build();
+    }
+    
+    @Test
+    void getKeywordNewsArticles_ReturnsArticleLinkedByAnotherKeyword() {
+        // given
+        ArticleKeyword link = ArticleKeyword.builder()
+                .article(article).keyword(artificialIntelligence).matchedAt(LocalDateTime.now()).build();
+        when(articleKeywordRepository.findKeywordFeed(eq(2L), any()))
+                .thenReturn(new PageImpl<>(List.of(link), PageRequest.of(0, 20), 1));
+        
+        // when
+        Page<NewsArticleResponse> result = newsArticleService.getKeywordNewsArticles(2L, 0, 20);
+        
+        // then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(10L, result.getContent().get(0).getId());
+        assertEquals("인공지능", result.getContent().get(0).getKeyword());
+    }
+    
+    @Test
+    void getUserNewsArticles_ArticleLinkedToTwoKeywords_ReturnedOnceWithBothKeywords() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(newsArticleRepository.findUserFeed(eq(1L), any()))
+                .thenReturn(new PageImpl<>(List.of(article), PageRequest.of(0, 20), 1));
+        when(articleKeywordRepository.findByUserIdAndArticleIds(1L, List.of(10L))).thenReturn(List.of(
+                ArticleKeyword.builder().article(article).keyword(ai).build(),
+                ArticleKeyword.builder().article(article).keyword(artificialIntelligence).build()));
+        
+        // when
+        Page<NewsArticleResponse> result = newsArticleService.getUserNewsArticles(1L, 0, 20);
+        
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals("AI, 인공지능", result.getContent().get(0).getKeyword());
+        assertEquals("네이버 뉴스", result.getContent().get(0).getNewsSiteName());
+    }
+    
+    @Test
+    void getRecentNewsArticles_ArticleStoredEarlierButLinkedRecently_Included() {
+        // given: 다른 사용자가 일주일 전에 저장한 기사가 오늘 이 사용자의 키워드와 연결됨
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        NewsArticle storedEarlier = article.toBuilder().collectedAt(LocalDateTime.now().minusDays(7)).build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(newsArticleRepository.findByUserIdAndMatchedAtSince(eq(1L), eq(since), any()))
+                .thenReturn(new PageImpl<>(List.of(storedEarlier), PageRequest.of(0, 20), 1));
+        when(articleKeywordRepository.findByUserIdAndArticleIds(1L, List.of(10L))).thenReturn(List.of(
+                ArticleKeyword.builder().article(storedEarlier).keyword(ai).matchedAt(LocalDateTime.now()).build()));
+        
+        // when
+        Page<NewsArticleResponse> result = newsArticleService.getRecentNewsArticles(1L, since, 0, 20);
+        
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals("AI", result.getContent().get(0).getKeyword());
+    }
+}
@@ -0,0 +1,117 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.crawler.GoogleNewsCrawler;
+import com.melllon.newsdatacollectservice.service.crawler.GoogleNewsUrlResolver;
+import com.melllon.newsdatacollectservice.service.crawler.HttpArticleContentFetcher;
+import com.melllon.newsdatacollectservice.service.crawler.NewsCrawler;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ArticleFetchCoalescerTest {
+    
+    private static final String GOOGLE_LINK = "https://news.google.com/rss/articles/AU_yqLOPAQUE?oc=5";
+    private static final String PUBLISHER_URL = "http://www.example.co.kr/news/view.php?idx=123&ref=google";
+    
+    private ArticleFetchCoalescer articleFetchCoalescer;
+    private NewsSite googleNewsSite;
+    private CollectionTarget target;
+    
+    @BeforeEach
+    void setUp() {
+        articleFetchCoalescer = new ArticleFetchCoalescer();
+        googleNewsSite = NewsSite.builder().id(2L).name("구글 뉴스").baseUrl("https://news.google.com").build();
+        Keyword keyword = Keyword.builder().id(1L).keyword("양자컴퓨터").isActive(true).build();
+        target = new CollectionPlanner().plan(List.of(keyword), List.of(googleNewsSite)).get(0);
+    }
+    
+    @Test
+    void enrich_GoogleLinkResolvedByCrawler_KeepsPublisherUrlAndHash() throws Exception {
+        // given
+        GoogleNewsUrlResolver resolver = mock(GoogleNewsUrlResolver.class);
+        HttpArticleContentFetcher contentFetcher = mock(HttpArticleContentFetcher.class);
+        when(resolver.resolve(GOOGLE_LINK)).thenReturn(PUBLISHER_URL);
+        when(resolver.findResolved(GOOGLE_LINK)).thenReturn(PUBLISHER_URL);
+        when(contentFetcher.fetchContent(PUBLISHER_URL)).thenReturn("언론사 기사 본문");
+        GoogleNewsCrawler crawler = new GoogleNewsCrawler();
+        ReflectionTestUtils.setField(crawler, "googleNewsUrlResolver", resolver);
+        ReflectionTestUtils.setField(crawler, "httpArticleContentFetcher", contentFetcher);
+        
+        // when
+        NewsArticle enriched = articleFetchCoalescer.enrich(collected(crawler, candidate("구글 뉴스 제목")));
+        
+        // then
+        assertEquals(PUBLISHER_URL, enriched.getUrl());
+        assertEquals(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(PUBLISHER_URL)), enriched.getUrlHash());
+        assertEquals("언론사 기사 본문", enriched.getContent());
+    }
+    
+    @Test
+    void enrich_FollowerOfSameLink_TakesResolvedUrlAndContentButKeepsOwnTitle() throws Exception {
+        // given
+        NewsCrawler crawler = mock(NewsCrawler.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(crawler.enrich(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            NewsArticle candidate = invocation.getArgument(0);
+            return candidate.toBuilder()
+                    .url(PUBLISHER_URL)
+                    .urlHash(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(PUBLISHER_URL)))
+                    .content("언론사 기사 본문")
+                    .build();
+        });
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // when
+            Future<NewsArticle> leader = executor.submit(
+                    () -> articleFetchCoalescer.enrich(collected(crawler, candidate("첫 번째 검색어의 제목"))));
+            started.await(5, TimeUnit.SECONDS);
+            Future<NewsArticle> follower = executor.submit(
+                    () -> articleFetchCoalescer.enrich(collected(crawler, candidate("두 번째 검색어의 제목"))));
+            while (articleFetchCoalescer.getFlights().getHitCount() == 0) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            
+            // then
+            NewsArticle followed = follower.get(5, TimeUnit.SECONDS);
+            assertEquals(PUBLISHER_URL, leader.get(5, TimeUnit.SECONDS).getUrl());
+            assertEquals(PUBLISHER_URL, followed.getUrl());
+            assertEquals(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(PUBLISHER_URL)), followed.getUrlHash());
+            assertEquals("언론사 기사 본문", followed.getContent());
+            assertEquals("두 번째 검색어의 제목", followed.getTitle());
+        }
+        verify(crawler, times(1)).enrich(any());
+    }
+    
+    private NewsArticle candidate(String title) {
+        return NewsArticle.builder()
+                .title(title)
+                .content("목록 요약")
+                .url(GOOGLE_LINK)
+                .urlHash(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(GOOGLE_LINK)))
+                .newsSite(googleNewsSite)
+                .build();
+    }
+    
+    private CollectedArticle collected(NewsCrawler crawler, NewsArticle candidate) {
+        return new CollectedArticle(new ListingPage(target, null, null, null), crawler, candidate);
+    }
+}
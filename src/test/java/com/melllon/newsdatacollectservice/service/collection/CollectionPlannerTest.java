@@ -0,0 +1,92 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionPlannerTest {
+
+    private CollectionPlanner collectionPlanner;
+    private NewsSite naverNewsSite;
+    private NewsSite googleNewsSite;
+
+    @BeforeEach
+    void setUp() {
+        collectionPlanner = new CollectionPlanner();
+
+        naverNewsSite = NewsSite.builder()
+                .id(1L)
+                .name("네이버 뉴스")
+                .baseUrl("https://search.naver.com")
+                .searchUrlPattern("https://search.naver.com/search.naver?query={keyword}&where=news")
+                .build();
+
+        googleNewsSite = NewsSite.builder()
+                .id(2L)
+                .name("구글 뉴스")
+                .baseUrl("https://news.google.com")
+                .searchUrlPattern("https://news.google.com/rss/search?q={keyword}&hl=ko&gl=KR&ceid=KR:ko")
+                .build();
+    }
+
+    @Test
+    void plan_SameTermDifferentCaseAndWhitespace_GroupedOncePerSite() {
+        // given
+        Keyword first = keyword(1L, "AI");
+        Keyword second = keyword(2L, " ai ");
+        Keyword third = keyword(3L, "머신러닝");
+
+        // when
+        List<CollectionTarget> targets = collectionPlanner.plan(
+                List.of(first, second, third), List.of(naverNewsSite, googleNewsSite));
+
+        // then
+        assertEquals(4, targets.size());
+        CollectionTarget aiOnNaver = targets.get(0);
+        assertEquals(naverNewsSite, aiOnNaver.getNewsSite());
+        assertEquals("ai", aiOnNaver.getNormalizedTerm());
+        assertEquals("AI", aiOnNaver.getSearchTerm());
+        assertEquals(List.of(first, second), aiOnNaver.getSubscribers());
+        assertEquals(first, aiOnNaver.getRepresentative());
+    }
+
+    @Test
+    void plan_DecomposedHangul_GroupedWithComposedForm() {
+        // given
+        String composed = "인공지능";
+        String decomposed = Normalizer.normalize(composed, Normalizer.Form.NFD);
+
+        // when
+        List<CollectionTarget> targets = collectionPlanner.plan(
+                List.of(keyword(1L, composed), keyword(2L, decomposed)), List.of(naverNewsSite));
+
+        // then
+        assertEquals(1, targets.size());
+        assertEquals(2, targets.get(0).getSubscribers().size());
+        assertEquals(composed, targets.get(0).getSearchTerm());
+    }
+
+    @Test
+    void plan_BlankKeyword_Skipped() {
+        // when
+        List<CollectionTarget> targets = collectionPlanner.plan(
+                List.of(keyword(1L, "   ")), List.of(naverNewsSite));
+
+        // then
+        assertTrue(targets.isEmpty());
+    }
+
+    private Keyword keyword(Long id, String term) {
+        return Keyword.builder()
+                .id(id)
+                .keyword(term)
+                .isActive(true)
+                .build();
+    }
+}
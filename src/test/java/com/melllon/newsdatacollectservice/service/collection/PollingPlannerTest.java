@@ -0,0 +1,135 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollingPlannerTest {
+    
+    private CrawlerProperties crawlerProperties;
+    private TermYieldTracker termYieldTracker;
+    private PollingPlanner pollingPlanner;
+    private List<CollectionTarget> targets;
+    
+    @BeforeEach
+    void setUp() {
+        crawlerProperties = new CrawlerProperties();
+        CrawlerProperties.Polling polling = crawlerProperties.getPolling();
+        polling.setMinInterval(Duration.ofMinutes(2));
+        polling.setMaxInterval(Duration.ofHours(2));
+        polling.setInitialInterval(Duration.ofMinutes(10));
+        polling.setTargetArticlesPerPoll(2.0);
+        polling.setSmoothing(0.5);
+        
+        termYieldTracker = new TermYieldTracker(crawlerProperties);
+        pollingPlanner = new PollingPlanner(crawlerProperties, termYieldTracker);
+        
+        NewsSite naverNewsSite = NewsSite.builder()
+                .id(1L)
+                .name("네이버 뉴스")
+                .baseUrl("https://search.naver.com")
+                .searchUrlPattern("https://search.naver.com/search.naver?query={keyword}&where=news")
+                .build();
+        targets = new CollectionPlanner().plan(
+                List.of(keyword(1L, "AI"), keyword(2L, "양자컴퓨터"), keyword(3L, "탄소중립")), List.of(naverNewsSite));
+    }
+    
+    @Test
+    void selectDue_NeverPolled_AllDueAndMarked() {
+        // when
+        List<CollectionTarget> due = pollingPlanner.selectDue(targets);
+        
+        // then
+        assertEquals(targets, due);
+        targets.forEach(target -> assertNotNull(termYieldTracker.getLastPolledAt(target)));
+        // 도착률을 모르면 초기 주기
+        assertEquals(Duration.ofMinutes(10), pollingPlanner.intervalOf(targets.get(0)));
+    }
+    
+    @Test
+    void intervalOf_ArrivalRate_TargetArticlesPerPollWithinBounds() {
+        // given
+        Instant now = Instant.now();
+        // 한 시간 동안 신규 기사 12개 -> 시간당 12개 -> 2개당 10분
+        poll(targets.get(0), now.minus(Duration.ofHours(1)), now, 12);
+        // 한 시간 동안 신규 기사 120개 -> 최소 주기
+        poll(targets.get(1), now.minus(Duration.ofHours(1)), now, 120);
+        // 신규 기사 없음 -> 최대 주기
+        poll(targets.get(2), now.minus(Duration.ofHours(1)), now, 0);
+        
+        // then
+        assertEquals(12.0, termYieldTracker.getArrivalRatePerHour(targets.get(0)), 1e-9);
+        assertEquals(Duration.ofMinutes(10), pollingPlanner.intervalOf(targets.get(0)));
+        assertEquals(Duration.ofMinutes(2), pollingPlanner.intervalOf(targets.get(1)));
+        assertEquals(Duration.ofHours(2), pollingPlanner.intervalOf(targets.get(2)));
+    }
+    
+    @Test
+    void selectDue_OnlyPairsPastNextDueTime() {
+        // given
+        Instant now = Instant.now();
+        // 시간당 12개(주기 10분), 마지막 검색 15분 전 -> 수집 시각 지남
+        poll(targets.get(0), now.minus(Duration.ofMinutes(75)), now.minus(Duration.ofMinutes(15)), 12);
+        // 신규 기사 없음(주기 2시간), 마지막 검색 15분 전 -> 아직
+        poll(targets.get(1), now.minus(Duration.ofMinutes(75)), now.minus(Duration.ofMinutes(15)), 0);
+        
+        // when
+        List<CollectionTarget> due = pollingPlanner.selectDue(targets);
+        
+        // then
+        assertEquals(List.of(targets.get(0), targets.get(2)), due);
+        assertEquals(now.minus(Duration.ofMinutes(15)), termYieldTracker.getLastPolledAt(targets.get(1)));
+    }
+    
+    @Test
+    void record_ArrivalRate_SmoothedAcrossPolls() {
+        // given
+        Instant now = Instant.now();
+        CollectionTarget target = targets.get(0);
+        poll(target, now.minus(Duration.ofHours(2)), now.minus(Duration.ofHours(1)), 10);
+        
+        // when (30분 동안 1개 -> 시간당 2개)
+        termYieldTracker.markPolled(target, now.minus(Duration.ofMinutes(30)));
+        termYieldTracker.record(target, 1, Map.of());
+        
+        // then
+        assertEquals(6.0, termYieldTracker.getArrivalRatePerHour(target), 1e-9);
+    }
+    
+    @Test
+    void selectDue_Disabled_AllTargets() {
+        // given
+        crawlerProperties.getPolling().setEnabled(false);
+        Instant now = Instant.now();
+        poll(targets.get(0), now.minus(Duration.ofMinutes(2)), now.minus(Duration.ofMinutes(1)), 0);
+        
+        // when
+        List<CollectionTarget> due = pollingPlanner.selectDue(targets);
+        
+        // then
+        assertEquals(targets, due);
+    }
+    
+    private void poll(CollectionTarget target, Instant previous, Instant last, int newArticles) {
+        termYieldTracker.markPolled(target, previous);
+        termYieldTracker.markPolled(target, last);
+        termYieldTracker.record(target, newArticles, Map.of());
+    }
+    
+    private Keyword keyword(Long id, String term) {
+        return Keyword.builder()
+                .id(id)
+                .keyword(term)
+                .isActive(true)
+                .build();
+    }
+}
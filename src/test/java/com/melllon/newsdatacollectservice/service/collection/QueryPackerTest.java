@@ -0,0 +1,229 @@
+package com.melllon.newsdatacollectservice.service.collection;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.crawler.GoogleNewsCrawler;
+import com.melllon.newsdatacollectservice.service.crawler.GoogleNewsUrlResolver;
+import com.melllon.newsdatacollectservice.service.crawler.StreamedListing;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class QueryPackerTest {
+    
+    private CrawlerProperties crawlerProperties;
+    private TermYieldTracker termYieldTracker;
+    private QueryPacker queryPacker;
+    private CollectionPlanner collectionPlanner;
+    private NewsSite naverNewsSite;
+    private NewsSite googleNewsSite;
+    
+    @BeforeEach
+    void setUp() {
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getPacking().setEnabled(true);
+        crawlerProperties.getPacking().setMinRuns(2);
+        CrawlerProperties.PackingHost naverHost = new CrawlerProperties.PackingHost();
+        naverHost.setOrOperator(" | ");
+        naverHost.setMaxQueryLength(25);
+        crawlerProperties.getPacking().getHosts().put("search.naver.com", naverHost);
+        
+        termYieldTracker = new TermYieldTracker(crawlerProperties);
+        queryPacker = new QueryPacker(crawlerProperties, termYieldTracker);
+        collectionPlanner = new CollectionPlanner();
+        
+        naverNewsSite = NewsSite.builder()
+                .id(1L)
+                .name("네이버 뉴스")
+                .baseUrl("https://search.naver.com")
+                .searchUrlPattern("https://search.naver.com/search.naver?query={keyword}&where=news")
+                .build();
+        
+        googleNewsSite = NewsSite.builder()
+                .id(2L)
+                .name("구글 뉴스")
+                .baseUrl("https://news.google.com")
+                .searchUrlPattern("https://news.google.com/rss/search?q={keyword}&hl=ko&gl=KR&ceid=KR:ko")
+                .build();
+    }
+    
+    @Test
+    void pack_LowYieldTerms_PackedWithHostOrOperator() {
+        // given
+        List<CollectionTarget> targets = plan(keyword(1L, "양자컴퓨터"), keyword(2L, "핵융합 발전"), keyword(3L, "AI"));
+        recordRuns(targets.get(0), 0, 2);
+        recordRuns(targets.get(1), 1, 2);
+        recordRuns(targets.get(2), 30, 2);
+        
+        // when
+        List<CollectionTarget> packed = queryPacker.pack(targets);
+        
+        // then
+        assertEquals(2, packed.size());
+        assertSame(targets.get(2), packed.get(0));
+        CollectionTarget group = packed.get(1);
+        assertTrue(group.isPacked());
+        assertEquals("양자컴퓨터 | \"핵융합 발전\"", group.getSearchTerm());
+        assertEquals(List.of(targets.get(0), targets.get(1)), group.getMembers());
+        assertEquals(2, group.getSubscribers().size());
+    }
+    
+    @Test
+    void pack_QueryLengthExceeded_SplitIntoSeveralQueries() {
+        // given
+        List<CollectionTarget> targets = plan(
+                keyword(1L, "반도체 수출 규제"), keyword(2L, "이차전지 소재"), keyword(3L, "탄소중립"));
+        targets.forEach(target -> recordRuns(target, 0, 2));
+        
+        // when
+        List<CollectionTarget> packed = queryPacker.pack(targets);
+        
+        // then
+        assertEquals(2, packed.size());
+        assertEquals("\"반도체 수출 규제\" | \"이차전지 소재\"", packed.get(0).getSearchTerm());
+        // 혼자 남은 검색어는 원래 수집 대상 그대로
+        assertSame(targets.get(2), packed.get(1));
+    }
+    
+    @Test
+    void pack_NotEnoughRunsOrSaturated_NotPacked() {
+        // given
+        List<CollectionTarget> targets = plan(keyword(1L, "양자컴퓨터"), keyword(2L, "탄소중립"), keyword(3L, "핵융합"));
+        recordRuns(targets.get(0), 0, 1);
+        recordRuns(targets.get(1), 0, 2);
+        recordRuns(targets.get(2), 0, 2);
+        termYieldTracker.markSaturated(List.of(targets.get(2)));
+        
+        // when
+        List<CollectionTarget> packed = queryPacker.pack(targets);
+        
+        // then
+        assertEquals(3, packed.size());
+        assertTrue(packed.containsAll(targets));
+        assertTrue(packed.stream().noneMatch(CollectionTarget::isPacked));
+    }
+    
+    @Test
+    void record_PackedTarget_RoutedCountsRecordedPerMember() {
+        // given
+        List<CollectionTarget> targets = plan(keyword(1L, "양자컴퓨터"), keyword(2L, "탄소중립"));
+        targets.forEach(target -> recordRuns(target, 0, 2));
+        CollectionTarget group = queryPacker.pack(targets).get(0);
+        
+        // when
+        termYieldTracker.record(group, 5, Map.of(targets.get(0), 5));
+        
+        // then
+        assertEquals(1.5, termYieldTracker.getAverage(targets.get(0)), 1e-9);
+        assertEquals(0.0, termYieldTracker.getAverage(targets.get(1)), 1e-9);
+        assertFalse(termYieldTracker.isLowYield(targets.get(0)));
+        assertTrue(termYieldTracker.isLowYield(targets.get(1)));
+    }
+    
+    @Test
+    void pack_Disabled_ReturnsTargetsAsIs() {
+        // given
+        crawlerProperties.getPacking().setEnabled(false);
+        List<CollectionTarget> targets = plan(keyword(1L, "양자컴퓨터"), keyword(2L, "탄소중립"));
+        targets.forEach(target -> recordRuns(target, 0, 2));
+        
+        // when
+        List<CollectionTarget> packed = queryPacker.pack(targets);
+        
+        // then
+        assertSame(targets, packed);
+    }
+    
+    @Test
+    void isSaturated_PackedGoogleRssWithFewNewItems_NotResplit() throws Exception {
+        // given (RSS 항목 40개 중 37개는 이미 저장된 기사)
+        CollectionTarget group = packedGoogleTarget();
+        StreamedListing listing = streamGoogleRss(40, 3);
+        
+        // when
+        boolean saturated = queryPacker.isSaturated(group, listing.getCandidates().size());
+        
+        // then
+        assertEquals(40, listing.getResultUrls().size());
+        assertEquals(3, listing.getCandidates().size());
+        assertFalse(saturated);
+    }
+    
+    @Test
+    void isSaturated_PackedGoogleRssStoppedAtCandidateLimit_Resplit() throws Exception {
+        // given (신규 항목이 많아 신규 후보 10개에서 읽기를 멈춤)
+        CollectionTarget group = packedGoogleTarget();
+        StreamedListing listing = streamGoogleRss(40, 25);
+        
+        // when
+        boolean saturated = queryPacker.isSaturated(group, listing.getCandidates().size());
+        
+        // then
+        assertEquals(10, listing.getCandidates().size());
+        assertTrue(saturated);
+    }
+    
+    @Test
+    void isSaturated_SingleTarget_NeverSaturated() {
+        // given
+        CollectionTarget target = plan(keyword(1L, "양자컴퓨터")).get(0);
+        
+        // when & then
+        assertFalse(queryPacker.isSaturated(target, 10));
+    }
+    
+    private CollectionTarget packedGoogleTarget() {
+        List<CollectionTarget> targets = collectionPlanner.plan(
+                List.of(keyword(1L, "양자컴퓨터"), keyword(2L, "탄소중립")), List.of(googleNewsSite));
+        targets.forEach(target -> recordRuns(target, 0, 2));
+        CollectionTarget group = queryPacker.pack(targets).get(0);
+        assertTrue(group.isPacked());
+        return group;
+    }
+    
+    // 앞쪽 newItems개는 신규, 나머지는 이미 저장된 기사인 RSS 응답을 스트리밍으로 읽음
+    private StreamedListing streamGoogleRss(int items, int newItems) throws Exception {
+        StringBuilder feed = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>");
+        for (int i = 0; i < items; i++) {
+            String token = (i < newItems ? "NEW" : "OLD") + i;
+            feed.append("<item><title>양자컴퓨터 기사 ").append(i).append("</title>")
+                    .append("<link>https://news.google.com/rss/articles/").append(token).append("?oc=5</link></item>");
+        }
+        feed.append("</channel></rss>");
+        FetchResponse response = new FetchResponse("https://news.google.com/rss/search?q=test", 200,
+                new HttpHeaders(), feed.toString().getBytes(StandardCharsets.UTF_8));
+        GoogleNewsCrawler crawler = new GoogleNewsCrawler();
+        // 변환해 둔 토큰이 없으므로 후보는 구글 뉴스 링크 그대로 판별
+        ReflectionTestUtils.setField(crawler, "googleNewsUrlResolver", mock(GoogleNewsUrlResolver.class));
+        return crawler.streamCandidates(response, googleNewsSite,
+                url -> url.contains("/articles/OLD"));
+    }
+    
+    private List<CollectionTarget> plan(Keyword... keywords) {
+        return collectionPlanner.plan(List.of(keywords), List.of(naverNewsSite));
+    }
+    
+    private void recordRuns(CollectionTarget target, int newArticles, int runs) {
+        for (int i = 0; i < runs; i++) {
+            termYieldTracker.record(target, newArticles, Map.of());
+        }
+    }
+    
+    private Keyword keyword(Long id, String term) {
+        return Keyword.builder()
+                .id(id)
+                .keyword(term)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoogleNewsCrawlerTest {
+    
+    private static final String RESOLVED_LINK = "https://news.google.com/rss/articles/CBMiRESOLVED?oc=5";
+    private static final String OPAQUE_LINK = "https://news.google.com/rss/articles/AU_yqLOPAQUE?oc=5";
+    private static final String PUBLISHER_URL = "https://www.yna.co.kr/view/AKR20240101000100001?utm_source=google";
+    
+    @Mock
+    private SeleniumGoogleNewsContentFetcher seleniumFetcher;
+    
+    @Mock
+    private GoogleNewsUrlResolver googleNewsUrlResolver;
+    
+    @Mock
+    private HttpArticleContentFetcher httpArticleContentFetcher;
+    
+    @InjectMocks
+    private GoogleNewsCrawler googleNewsCrawler;
+    
+    private NewsSite googleNewsSite;
+    
+    @BeforeEach
+    void setUp() {
+        googleNewsSite = NewsSite.builder().id(2L).name("구글 뉴스").build();
+    }
+    
+    @Test
+    void streamCandidates_ResolvedToken_ChecksKnownByPublisherUrl() throws Exception {
+        // given: 이미 변환해 둔 토큰은 언론사 URL로 저장 여부를 판별
+        when(googleNewsUrlResolver.findAllResolved(List.of(RESOLVED_LINK, OPAQUE_LINK)))
+                .thenReturn(Map.of(RESOLVED_LINK, PUBLISHER_URL));
+        String knownUrl = UrlCanonicalizer.canonicalize(PUBLISHER_URL);
+        
+        // when
+        StreamedListing listing = googleNewsCrawler.streamCandidates(rss(RESOLVED_LINK, OPAQUE_LINK), googleNewsSite,
+                url -> knownUrl.equals(UrlCanonicalizer.canonicalize(url)));
+        
+        // then
+        assertEquals(1, listing.getKnownArticles().size());
+        assertEquals(PUBLISHER_URL, listing.getKnownArticles().get(0).getUrl());
+        assertEquals(1, listing.getCandidates().size());
+        assertEquals(OPAQUE_LINK, listing.getCandidates().get(0).getUrl());
+        verify(googleNewsUrlResolver, never()).findResolved(anyString());
+    }
+    
+    @Test
+    void streamCandidates_MalformedLink_KeepsRestOfListing() throws Exception {
+        // given: 공백이 들어간 잘못된 링크도 목록 전체를 실패시키지 않음
+        String malformedLink = "https://news.google.com/rss/articles/CBMi BROKEN?oc=5";
+        when(googleNewsUrlResolver.findAllResolved(anyCollection())).thenReturn(Map.of());
+        
+        // when
+        StreamedListing listing = googleNewsCrawler.streamCandidates(rss(malformedLink, OPAQUE_LINK), googleNewsSite,
+                url -> false);
+        
+        // then
+        assertEquals(List.of(malformedLink, OPAQUE_LINK), listing.getResultUrls());
+        assertEquals(2, listing.getCandidates().size());
+    }
+    
+    @Test
+    void enrich_TokenResolvedWhileFetching_StoresPublisherUrlAndHash() {
+        // given
+        NewsArticle candidate = candidate(OPAQUE_LINK);
+        when(googleNewsUrlResolver.resolve(OPAQUE_LINK)).thenReturn(PUBLISHER_URL);
+        when(httpArticleContentFetcher.fetchContent(PUBLISHER_URL)).thenReturn("언론사 기사 본문");
+        when(googleNewsUrlResolver.findResolved(OPAQUE_LINK)).thenReturn(PUBLISHER_URL);
+        
+        // when
+        NewsArticle enriched = googleNewsCrawler.enrich(candidate);
+        
+        // then: 저장 URL은 언론사 URL 그대로, 해시는 표준 URL 기준
+        assertEquals(PUBLISHER_URL, enriched.getUrl());
+        assertEquals(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(PUBLISHER_URL)), enriched.getUrlHash());
+        assertEquals("언론사 기사 본문", enriched.getContent());
+        verifyNoInteractions(seleniumFetcher);
+    }
+    
+    @Test
+    void enrich_UnresolvedToken_KeepsTokenUrl() {
+        // given
+        NewsArticle candidate = candidate(OPAQUE_LINK);
+        when(googleNewsUrlResolver.resolve(OPAQUE_LINK)).thenReturn(null);
+        when(seleniumFetcher.crawlContentWithSelenium(OPAQUE_LINK)).thenReturn(null);
+        when(googleNewsUrlResolver.findResolved(OPAQUE_LINK)).thenReturn(null);
+        
+        // when
+        NewsArticle enriched = googleNewsCrawler.enrich(candidate);
+        
+        // then
+        assertEquals(OPAQUE_LINK, enriched.getUrl());
+        assertEquals(candidate.getUrlHash(), enriched.getUrlHash());
+    }
+    
+    @Test
+    void enrich_PublisherUrlFromListing_FetchesWithoutResolving() {
+        // given
+        NewsArticle candidate = candidate(PUBLISHER_URL);
+        when(httpArticleContentFetcher.fetchContent(PUBLISHER_URL)).thenReturn("언론사 기사 본문");
+        
+        // when
+        NewsArticle enriched = googleNewsCrawler.enrich(candidate);
+        
+        // then
+        assertEquals(PUBLISHER_URL, enriched.getUrl());
+        assertEquals("언론사 기사 본문", enriched.getContent());
+        verify(googleNewsUrlResolver, never()).resolve(anyString());
+    }
+    
+    private NewsArticle candidate(String url) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        return NewsArticle.builder()
+                .title("양자컴퓨터 기사")
+                .url(url)
+                .urlHash(UrlCanonicalizer.hash(canonicalUrl))
+                .newsSite(googleNewsSite)
+                .build();
+    }
+    
+    private FetchResponse rss(String... links) {
+        StringBuilder feed = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>");
+        for (int i = 0; i < links.length; i++) {
+            feed.append("<item><title>양자컴퓨터 기사 ").append(i).append("</title>")
+                    .append("<link>").append(links[i]).append("</link></item>");
+        }
+        feed.append("</channel></rss>");
+        return new FetchResponse("https://news.google.com/rss/search?q=test", 200,
+                new HttpHeaders(), feed.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
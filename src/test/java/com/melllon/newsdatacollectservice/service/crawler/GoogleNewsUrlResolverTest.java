@@ -0,0 +1,136 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.entity.GoogleNewsRedirect;
+import com.melllon.newsdatacollectservice.repository.GoogleNewsRedirectRepository;
+import com.melllon.newsdatacollectservice.service.dedup.UrlHashing;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class GoogleNewsUrlResolverTest {
+    
+    @Test
+    void decodeToken_LegacyTokenWithEmbeddedUrl_ReturnsUrl() {
+        // given
+        String articleUrl = "https://www.yna.co.kr/view/AKR20240101000100001";
+        String token = legacyToken(articleUrl);
+        
+        // when
+        String decoded = GoogleNewsUrlResolver.decodeToken(token);
+        
+        // then
+        assertEquals(articleUrl, decoded);
+    }
+    
+    @Test
+    void decodeToken_OpaqueToken_ReturnsNull() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0x08);
+        out.write(0x13);
+        out.write(0x22);
+        byte[] opaque = "AU_yqLOpaqueIdentifier".getBytes(StandardCharsets.UTF_8);
+        out.write(opaque.length);
+        out.writeBytes(opaque);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+        
+        // when & then
+        assertNull(GoogleNewsUrlResolver.decodeToken(token));
+        assertNull(GoogleNewsUrlResolver.decodeToken("not*base64"));
+    }
+    
+    @Test
+    void extractToken_GoogleNewsRssArticleUrl_ReturnsPathToken() {
+        // when
+        String token = GoogleNewsUrlResolver.extractToken("https://news.google.com/rss/articles/CBMiABC?oc=5");
+        
+        // then
+        assertEquals("CBMiABC", token);
+        assertNull(GoogleNewsUrlResolver.extractToken("https://n.news.naver.com/mnews/article/001/0000000001"));
+    }
+    
+    @Test
+    void findResolved_StoredRedirect_ReturnsTargetWithoutRequest() {
+        // given
+        GoogleNewsRedirectRepository repository = mock(GoogleNewsRedirectRepository.class);
+        String targetUrl = "https://www.hankyung.com/article/2024010100001";
+        when(repository.findByTokenHash(UrlHashing.hash64("AU_yqLStored")))
+                .thenReturn(Optional.of(GoogleNewsRedirect.builder().targetUrl(targetUrl).build()));
+        GoogleNewsUrlResolver resolver = new GoogleNewsUrlResolver(repository, null, null, null);
+        
+        // when
+        String resolved = resolver.findResolved("https://news.google.com/rss/articles/AU_yqLStored?oc=5");
+        
+        // then
+        assertEquals(targetUrl, resolved);
+    }
+    
+    @Test
+    void findResolved_LegacyTokenNotStored_ReturnsDecodedUrl() {
+        // given
+        GoogleNewsRedirectRepository repository = mock(GoogleNewsRedirectRepository.class);
+        when(repository.findByTokenHash(anyLong())).thenReturn(Optional.empty());
+        GoogleNewsUrlResolver resolver = new GoogleNewsUrlResolver(repository, null, null, null);
+        String articleUrl = "https://www.yna.co.kr/view/AKR20240101000100001";
+        
+        // when
+        String resolved = resolver.findResolved("https://news.google.com/rss/articles/" + legacyToken(articleUrl));
+        
+        // then
+        assertEquals(articleUrl, resolved);
+        assertNull(resolver.findResolved("https://n.news.naver.com/mnews/article/001/0000000001"));
+    }
+    
+    @Test
+    void extractToken_MalformedUrl_ReturnsNull() {
+        // when & then
+        assertNull(GoogleNewsUrlResolver.extractToken("https://news.google.com/rss/articles/CBMi BROKEN?oc=5"));
+    }
+    
+    @Test
+    void findAllResolved_Listing_LooksUpStoredTokensOnceAndDecodesLegacyTokens() {
+        // given
+        GoogleNewsRedirectRepository repository = mock(GoogleNewsRedirectRepository.class);
+        String storedUrl = "https://www.hankyung.com/article/2024010100001";
+        String legacyUrl = "https://www.yna.co.kr/view/AKR20240101000100001";
+        when(repository.findByTokenHashIn(anyCollection())).thenReturn(List.of(GoogleNewsRedirect.builder()
+                .tokenHash(UrlHashing.hash64("AU_yqLStored")).targetUrl(storedUrl).build()));
+        GoogleNewsUrlResolver resolver = new GoogleNewsUrlResolver(repository, null, null, null);
+        String storedLink = "https://news.google.com/rss/articles/AU_yqLStored?oc=5";
+        String legacyLink = "https://news.google.com/rss/articles/" + legacyToken(legacyUrl) + "?oc=5";
+        String opaqueLink = "https://news.google.com/rss/articles/AU_yqLUnknown?oc=5";
+        String malformedLink = "https://news.google.com/rss/articles/CBMi BROKEN?oc=5";
+        
+        // when
+        Map<String, String> resolved = resolver.findAllResolved(List.of(storedLink, legacyLink, opaqueLink, malformedLink));
+        
+        // then
+        assertEquals(Map.of(storedLink, storedUrl, legacyLink, legacyUrl), resolved);
+        verify(repository, times(1)).findByTokenHashIn(anyCollection());
+        verify(repository, never()).findByTokenHash(anyLong());
+    }
+    
+    private String legacyToken(String url) {
+        byte[] urlBytes = url.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0x08);
+        out.write(0x13);
+        out.write(0x22);
+        out.write(urlBytes.length);
+        out.writeBytes(urlBytes);
+        out.write(0xd2);
+        out.write(0x01);
+        out.write(0x00);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+}
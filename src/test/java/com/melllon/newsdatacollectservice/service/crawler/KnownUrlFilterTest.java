@@ -0,0 +1,47 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.repository.NewsArticleRepository;
+import com.melllon.newsdatacollectservice.service.dedup.UrlCanonicalizer;
+import com.melllon.newsdatacollectservice.service.dedup.UrlFingerprintIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class KnownUrlFilterTest {
+    
+    private NewsArticleRepository newsArticleRepository;
+    private KnownUrlFilter knownUrlFilter;
+    
+    @BeforeEach
+    void setUp() {
+        newsArticleRepository = mock(NewsArticleRepository.class);
+        UrlFingerprintIndex urlFingerprintIndex = mock(UrlFingerprintIndex.class);
+        when(urlFingerprintIndex.isReady()).thenReturn(false);
+        knownUrlFilter = new KnownUrlFilter(newsArticleRepository, urlFingerprintIndex, new CrawlerProperties());
+    }
+    
+    @Test
+    void removeKnown_HttpUrlWithQuery_KeepsOriginalUrlAndHashesCanonicalForm() {
+        // given: http 전용 언론사와 ref 파라미터가 필요한 기사 URL
+        String originalUrl = "http://news.example.co.kr/view.php?ref=main&idx=123";
+        String duplicateUrl = "https://news.example.co.kr/view.php?idx=123&utm_source=google";
+        when(newsArticleRepository.findExistingUrlHashes(anyCollection())).thenReturn(List.of());
+        
+        // when
+        List<NewsArticle> unknown = knownUrlFilter.removeKnown(List.of(
+                NewsArticle.builder().title("원래 링크").url(originalUrl).build(),
+                NewsArticle.builder().title("같은 기사").url(duplicateUrl).build()));
+        
+        // then
+        assertEquals(1, unknown.size());
+        assertEquals(originalUrl, unknown.get(0).getUrl());
+        assertEquals(UrlCanonicalizer.hash(UrlCanonicalizer.canonicalize(originalUrl)), unknown.get(0).getUrlHash());
+    }
+}
@@ -3,6 +3,8 @@ package com.melllon.newsdatacollectservice.service.crawler;
 import com.melllon.newsdatacollectservice.entity.Keyword;
 import com.melllon.newsdatacollectservice.entity.NewsArticle;
 import com.melllon.newsdatacollectservice.entity.NewsSite;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -79,4 +81,24 @@ class NaverNewsCrawlerTest {
         // then
         assertFalse(result);
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void listResultUrls_ListingPage_ReturnsArticleLinksInOrderWithoutDuplicates() {
+        // given
+        Document doc = Jsoup.parse(
+                "<div class='news_area'>" +
+                "<a href='https://n.news.naver.com/mnews/article/001/0000000002'>B</a>" +
+                "<a href='https://ad.example.com/click'>광고</a>" +
+                "<a href='https://n.news.naver.com/mnews/article/001/0000000001'>A</a>" +
+                "<a href='https://n.news.naver.com/mnews/article/001/0000000002'>B 더보기</a>" +
+                "</div>");
+        
+        // when
+        List<String> urls = naverNewsCrawler.listResultUrls(doc);
+        
+        // then
+        assertEquals(List.of(
+                "https://n.news.naver.com/mnews/article/001/0000000002",
+                "https://n.news.naver.com/mnews/article/001/0000000001"), urls);
+    }
+} 
@@ -0,0 +1,78 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import com.melllon.newsdatacollectservice.entity.NewsArticle;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import com.melllon.newsdatacollectservice.service.fetch.FetchResponse;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsCrawlerTest {
+    
+    private static final String LISTING_HTML =
+            "<html><body><div class='news_area'>" +
+            "<a href='https://n.news.naver.com/mnews/article/001/0000000001'>저장된 기사</a>" +
+            "<a href='https://n.news.naver.com/mnews/article/001/0000000002'>새 기사</a>" +
+            "</div></body></html>";
+    
+    private final NewsSite newsSite = NewsSite.builder().id(1L).name("테스트 뉴스").build();
+    
+    @Test
+    void streamCandidates_CrawlerWithoutStreamingParser_SplitsParsedCandidatesByKnown() throws Exception {
+        // given
+        NewsCrawler crawler = new DocumentOnlyCrawler();
+        FetchResponse response = new FetchResponse("https://search.example.com/search?q=test", 200,
+                new HttpHeaders(), LISTING_HTML.getBytes(StandardCharsets.UTF_8));
+        
+        // when
+        StreamedListing listing = crawler.streamCandidates(response, newsSite,
+                url -> url.endsWith("/0000000001"));
+        
+        // then
+        assertEquals(List.of(
+                "https://n.news.naver.com/mnews/article/001/0000000001",
+                "https://n.news.naver.com/mnews/article/001/0000000002"), listing.getResultUrls());
+        assertEquals(List.of("저장된 기사"), listing.getKnownArticles().stream().map(NewsArticle::getTitle).toList());
+        assertEquals(List.of("새 기사"), listing.getCandidates().stream().map(NewsArticle::getTitle).toList());
+    }
+    
+    // 목록을 Document로만 해석하는 크롤러 (streamCandidates는 기본 구현 사용)
+    private static class DocumentOnlyCrawler implements NewsCrawler {
+        
+        @Override
+        public boolean canHandle(NewsSite newsSite) {
+            return true;
+        }
+        
+        @Override
+        public List<String> listResultUrls(Document doc) {
+            return doc.select("div.news_area a").eachAttr("href");
+        }
+        
+        @Override
+        public List<NewsArticle> extractCandidates(Document doc, NewsSite newsSite) {
+            return doc.select("div.news_area a").stream()
+                    .map(link -> NewsArticle.builder()
+                            .title(link.text())
+                            .url(link.attr("href"))
+                            .newsSite(newsSite)
+                            .build())
+                    .toList();
+        }
+        
+        @Override
+        public NewsArticle enrich(NewsArticle candidate) {
+            return candidate;
+        }
+        
+        @Override
+        public String crawlFullContent(String url, String siteName) {
+            return null;
+        }
+    }
+}
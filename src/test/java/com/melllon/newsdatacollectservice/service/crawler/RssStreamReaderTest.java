@@ -0,0 +1,75 @@
+package com.melllon.newsdatacollectservice.service.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RssStreamReaderTest {
+    
+    private static final String FEED = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0">
+            <channel>
+            <title>"AI" - Google 뉴스</title>
+            <item>
+            <title>첫 번째 기사 - 언론사A</title>
+            <link>https://news.google.com/rss/articles/TOKEN1?oc=5</link>
+            <pubDate>Mon, 07 Jul 2025 01:00:00 GMT</pubDate>
+            <description>&lt;a href="https://news.google.com/rss/articles/TOKEN1"&gt;첫 번째&lt;/a&gt;</description>
+            <source url="https://a.example.com">언론사A</source>
+            </item>
+            <item>
+            <title>두 번째 기사 &amp; 속보</title>
+            <link>https://news.google.com/rss/articles/TOKEN2?oc=5</link>
+            </item>
+            <item>
+            <title>세 번째 기사</title>
+            <link>https://news.google.com/rss/articles/TOKEN3?oc=5</link>
+            </item>
+            </channel>
+            </rss>
+            """;
+    
+    @Test
+    void read_Feed_EmitsItemFields() throws Exception {
+        // given
+        List<RssItem> items = new ArrayList<>();
+        
+        // when
+        int count = RssStreamReader.read(input(), items::add);
+        
+        // then
+        assertEquals(3, count);
+        assertEquals("첫 번째 기사 - 언론사A", items.get(0).getTitle());
+        assertEquals("https://news.google.com/rss/articles/TOKEN1?oc=5", items.get(0).getLink());
+        assertEquals("Mon, 07 Jul 2025 01:00:00 GMT", items.get(0).getPubDate());
+        assertEquals("언론사A", items.get(0).getSource());
+        assertEquals("두 번째 기사 & 속보", items.get(1).getTitle());
+        assertNull(items.get(1).getPubDate());
+    }
+    
+    @Test
+    void read_HandlerReturnsFalse_StopsReading() throws Exception {
+        // given
+        List<RssItem> items = new ArrayList<>();
+        
+        // when
+        int count = RssStreamReader.read(input(), item -> {
+            items.add(item);
+            return items.size() < 2;
+        });
+        
+        // then
+        assertEquals(2, count);
+        assertEquals(2, items.size());
+    }
+    
+    private static ByteArrayInputStream input() {
+        return new ByteArrayInputStream(FEED.getBytes(StandardCharsets.UTF_8));
+    }
+}
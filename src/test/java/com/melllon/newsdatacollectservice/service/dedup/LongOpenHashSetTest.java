@@ -0,0 +1,67 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongOpenHashSetTest {
+    
+    @Test
+    void add_BeyondInitialCapacity_ResizesAndKeepsAllValues() {
+        // given
+        LongOpenHashSet set = new LongOpenHashSet(4);
+        
+        // when
+        for (long value = 1; value <= 10_000; value++) {
+            set.add(value * 31);
+        }
+        
+        // then
+        assertEquals(10_000, set.size());
+        for (long value = 1; value <= 10_000; value++) {
+            assertTrue(set.contains(value * 31));
+        }
+        assertFalse(set.contains(7));
+    }
+    
+    @Test
+    void add_DuplicateAndZero_CountedOnce() {
+        // given
+        LongOpenHashSet set = new LongOpenHashSet(16);
+        
+        // when
+        boolean firstZero = set.add(0L);
+        boolean secondZero = set.add(0L);
+        set.add(42L);
+        set.add(42L);
+        
+        // then
+        assertTrue(firstZero);
+        assertFalse(secondZero);
+        assertTrue(set.contains(0L));
+        assertEquals(2, set.size());
+        
+        Set<Long> visited = new HashSet<>();
+        set.forEach(visited::add);
+        assertEquals(Set.of(0L, 42L), visited);
+    }
+    
+    @Test
+    void bloomFilter_InsertedFingerprints_NeverFalseNegative() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            bloomFilter.put(UrlHashing.hash64("https://n.news.naver.com/article/001/" + i));
+        }
+        
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(bloomFilter.mightContain(UrlHashing.hash64("https://n.news.naver.com/article/001/" + i)));
+        }
+    }
+}
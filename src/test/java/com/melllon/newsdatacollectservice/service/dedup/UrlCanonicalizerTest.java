@@ -0,0 +1,56 @@
+package com.melllon.newsdatacollectservice.service.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UrlCanonicalizerTest {
+    
+    @Test
+    void canonicalize_NaverArticleVariants_SameCanonicalUrl() {
+        // given
+        String expected = "https://n.news.naver.com/mnews/article/001/0014000000";
+        
+        // when & then
+        assertEquals(expected, UrlCanonicalizer.canonicalize("https://n.news.naver.com/mnews/article/001/0014000000?sid=105"));
+        assertEquals(expected, UrlCanonicalizer.canonicalize("http://N.News.Naver.com/article/001/0014000000?utm_source=x"));
+        assertEquals(expected, UrlCanonicalizer.canonicalize("https://m.news.naver.com/article/001/0014000000#comment"));
+        assertEquals(expected, UrlCanonicalizer.canonicalize("https://news.naver.com/main/read.naver?mode=LSD&mid=sec&oid=001&aid=0014000000"));
+    }
+    
+    @Test
+    void canonicalize_TrackingParams_RemovedAndRestSorted() {
+        // when
+        String canonical = UrlCanonicalizer.canonicalize(
+                "HTTP://www.Example.com:80/news/view?utm_medium=rss&b=2&fbclid=abc&a=1#top");
+        
+        // then
+        assertEquals("https://www.example.com/news/view?a=1&b=2", canonical);
+    }
+    
+    @Test
+    void canonicalize_GoogleNewsArticle_QueryDropped() {
+        // when
+        String canonical = UrlCanonicalizer.canonicalize(
+                "https://news.google.com/rss/articles/CBMiTOKEN?oc=5&hl=ko");
+        
+        // then
+        assertEquals("https://news.google.com/rss/articles/CBMiTOKEN", canonical);
+    }
+    
+    @Test
+    void canonicalize_UnparseableUrl_ReturnedTrimmed() {
+        // when & then
+        assertEquals("not a url", UrlCanonicalizer.canonicalize("  not a url "));
+    }
+    
+    @Test
+    void hash_SameCanonicalUrl_SameHash() {
+        // given
+        String first = UrlCanonicalizer.canonicalize("https://n.news.naver.com/mnews/article/001/0014000000?sid=105");
+        String second = UrlCanonicalizer.canonicalize("https://n.news.naver.com/article/001/0014000000");
+        
+        // when & then
+        assertEquals(UrlCanonicalizer.hash(first), UrlCanonicalizer.hash(second));
+    }
+}
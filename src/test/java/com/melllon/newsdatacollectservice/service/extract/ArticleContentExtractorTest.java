@@ -0,0 +1,63 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleContentExtractorTest {
+    
+    private static final String PARAGRAPH = "정부는 오늘 인공지능 산업 육성을 위한 종합 대책을 발표했다. 이번 대책에는 연구개발 지원, 인재 양성, 데이터 개방 등이 포함됐다.";
+    
+    @Test
+    void extract_ParagraphArticle_PicksArticleBodyOverNavigation() {
+        // given
+        String html = "<html><body>"
+                + "<div class='gnb'><a href='/1'>정치</a> <a href='/2'>경제</a> <a href='/3'>사회</a> <a href='/4'>국제</a></div>"
+                + "<div class='related'><a href='/a'>" + PARAGRAPH + "</a></div>"
+                + "<div id='articleBody'><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p></div>"
+                + "<footer>저작권자 무단 전재 및 재배포 금지, 모든 권리 보유</footer>"
+                + "</body></html>";
+        Document doc = Jsoup.parse(html);
+        
+        // when
+        Element content = ArticleContentExtractor.findContentElement(doc);
+        String text = ArticleContentExtractor.extract(doc);
+        
+        // then
+        assertNotNull(content);
+        assertEquals("articleBody", content.id());
+        assertTrue(text.startsWith("정부는 오늘"));
+        assertFalse(text.contains("저작권자"));
+    }
+    
+    @Test
+    void extract_BrSeparatedArticle_PicksTextBlock() {
+        // given
+        String html = "<html><body>"
+                + "<div class='menu'><ul><li><a href='/1'>홈</a></li><li><a href='/2'>뉴스</a></li></ul></div>"
+                + "<div class='news_view'>" + PARAGRAPH + "<br><br>" + PARAGRAPH + "<br><br><b>" + PARAGRAPH + "</b></div>"
+                + "<script>var ad = '" + PARAGRAPH + "';</script>"
+                + "</body></html>";
+        Document doc = Jsoup.parse(html);
+        
+        // when
+        Element content = ArticleContentExtractor.findContentElement(doc);
+        
+        // then
+        assertNotNull(content);
+        assertEquals("news_view", content.className());
+        assertFalse(ArticleContentExtractor.extract(doc).contains("var ad"));
+    }
+    
+    @Test
+    void extract_NoContent_ReturnsNull() {
+        // given
+        Document doc = Jsoup.parse("<html><body><div><a href='/1'>홈</a></div></body></html>");
+        
+        // when & then
+        assertNull(ArticleContentExtractor.extract(doc));
+    }
+}
@@ -0,0 +1,129 @@
+package com.melllon.newsdatacollectservice.service.extract;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.ExtractionTemplate;
+import com.melllon.newsdatacollectservice.repository.ExtractionTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExtractionTemplateCacheTest {
+    
+    private static final String HOST = "search.naver.com";
+    private static final List<CompiledSelector> SELECTORS = CompiledSelector.listOf("div.first", "div.second", "div.third");
+    private static final List<CompiledSelector> WITH_FALLBACK = CompiledSelector.withFallbacks(
+            CompiledSelector.listOf("div.first"), "a");
+    
+    @Mock
+    private ExtractionTemplateRepository extractionTemplateRepository;
+    
+    private ExtractionTemplateCache extractionTemplateCache;
+    
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getExtraction().setWindow(4);
+        crawlerProperties.getExtraction().setMinSamples(4);
+        crawlerProperties.getExtraction().setMinSuccessRate(0.5);
+        extractionTemplateCache = new ExtractionTemplateCache(extractionTemplateRepository, crawlerProperties);
+        lenient().when(extractionTemplateRepository.findByHostAndField(anyString(), anyString())).thenReturn(Optional.empty());
+    }
+    
+    @Test
+    void extract_LearnedSelector_TriedFirstOnNextPage() {
+        // given
+        extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_LISTING, SELECTORS,
+                selector -> selector.getQuery().equals("div.second") ? "ok" : null);
+        List<String> attempted = new ArrayList<>();
+        
+        // when
+        String result = extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_LISTING, SELECTORS, selector -> {
+            attempted.add(selector.getQuery());
+            return selector.getQuery().equals("div.second") ? "ok" : null;
+        });
+        
+        // then
+        assertEquals("ok", result);
+        assertEquals(List.of("div.second"), attempted);
+        verify(extractionTemplateRepository, times(1)).save(any());
+    }
+    
+    @Test
+    void extract_SuccessRateDrops_RelearnsWorkingSelector() {
+        // given: div.first로 학습한 뒤 페이지 구조가 바뀌어 div.third만 동작
+        extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_LISTING, SELECTORS,
+                selector -> selector.getQuery().equals("div.first") ? "ok" : null);
+        Set<String> working = Set.of("div.third");
+        
+        // when: 최근 시도가 기준 이하로 떨어질 때까지 실패
+        for (int i = 0; i < 4; i++) {
+            assertEquals("ok", extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_LISTING, SELECTORS,
+                    selector -> working.contains(selector.getQuery()) ? "ok" : null));
+        }
+        List<String> attempted = new ArrayList<>();
+        extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_LISTING, SELECTORS, selector -> {
+            attempted.add(selector.getQuery());
+            return working.contains(selector.getQuery()) ? "ok" : null;
+        });
+        
+        // then
+        assertEquals(List.of("div.third"), attempted);
+        verify(extractionTemplateRepository, times(2)).save(any());
+    }
+    
+    @Test
+    void extract_OnlyFallbackMatches_ResultUsedButNotLearned() {
+        // when
+        String result = extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_TITLE, WITH_FALLBACK,
+                selector -> selector.getQuery().equals("a") ? "ok" : null);
+        
+        // then
+        assertEquals("ok", result);
+        assertEquals(0, extractionTemplateCache.size());
+        verify(extractionTemplateRepository, never()).save(any());
+    }
+    
+    @Test
+    void extract_PersistedFallbackSelector_DiscardedAndRelearned() {
+        // given: 이전에 넓은 셀렉터가 학습되어 저장됨
+        when(extractionTemplateRepository.findAll()).thenReturn(List.of(ExtractionTemplate.builder()
+                .host(HOST).field(ExtractionTemplateCache.NAVER_TITLE).selector("a").build()));
+        extractionTemplateCache.load();
+        List<String> attempted = new ArrayList<>();
+        
+        // when
+        String result = extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_TITLE, WITH_FALLBACK, selector -> {
+            attempted.add(selector.getQuery());
+            return "ok";
+        });
+        
+        // then
+        assertEquals("ok", result);
+        assertEquals(List.of("div.first"), attempted);
+        verify(extractionTemplateRepository, times(1)).save(any());
+    }
+    
+    @Test
+    void extract_NoSelectorMatches_ReturnsNullWithoutLearning() {
+        // when
+        String result = extractionTemplateCache.extract(HOST, ExtractionTemplateCache.NAVER_TITLE, SELECTORS, selector -> null);
+        
+        // then
+        assertNull(result);
+        assertEquals(0, extractionTemplateCache.size());
+        verify(extractionTemplateRepository, never()).save(any());
+    }
+}
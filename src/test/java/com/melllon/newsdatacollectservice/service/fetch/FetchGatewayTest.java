@@ -0,0 +1,177 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import com.melllon.newsdatacollectservice.config.CrawlerProperties;
+import com.melllon.newsdatacollectservice.entity.NewsSite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FetchGatewayTest {
+    
+    private CrawlerProperties crawlerProperties;
+    private FetchGateway fetchGateway;
+    private NewsSite googleNewsSite;
+    
+    @BeforeEach
+    void setUp() {
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getFetch().setDefaultRequestsPerSecond(2.0);
+        crawlerProperties.getFetch().setDefaultMaxConcurrent(4);
+        fetchGateway = new FetchGateway(crawlerProperties);
+        
+        googleNewsSite = googleNewsSite(1.0, 2);
+    }
+    
+    @Test
+    void execute_SameHostSiteAndDefaultPath_SharesOneBudgetWithSiteLimits() throws Exception {
+        // when
+        fetchGateway.execute(googleNewsSite, "https://news.google.com/rss/search?q=AI", () -> "rss");
+        fetchGateway.execute("https://news.google.com/rss/articles/CBMi1", () -> "article");
+        
+        // then
+        assertEquals(1, fetchGateway.getBudgets().size());
+        HostBudget budget = fetchGateway.getBudgets().iterator().next();
+        assertEquals("news.google.com", budget.getHost());
+        assertEquals(new HostLimits(1.0, 2), budget.getLimits());
+        assertEquals(2, budget.getRequestCount());
+    }
+    
+    @Test
+    void execute_PermissiveSiteLimitThenDefaultPath_SiteLimitSurvives() throws Exception {
+        // given (기본값보다 느슨한 뉴스 사이트 설정)
+        NewsSite fastSite = googleNewsSite(50.0, 8);
+        
+        // when
+        fetchGateway.execute(fastSite, "https://news.google.com/rss/search?q=AI", () -> "rss");
+        fetchGateway.execute("https://news.google.com/rss/articles/CBMi1", () -> "article");
+        
+        // then
+        HostBudget budget = fetchGateway.getBudgets().iterator().next();
+        assertEquals(new HostLimits(50.0, 8), budget.getLimits());
+    }
+    
+    @Test
+    void execute_SiteLimitRaised_AppliedWithoutRestart() throws Exception {
+        // given
+        fetchGateway.execute(googleNewsSite, "https://news.google.com/rss/search?q=AI", () -> "rss");
+        NewsSite raised = googleNewsSite(50.0, 8);
+        
+        // when
+        fetchGateway.execute(raised, "https://news.google.com/rss/search?q=AI", () -> "rss");
+        
+        // then
+        assertEquals(new HostLimits(50.0, 8), fetchGateway.getBudgets().iterator().next().getLimits());
+    }
+    
+    @Test
+    void execute_HostWithoutSiteCall_UsesHostOverrideThenDefault() throws Exception {
+        // given
+        CrawlerProperties.HostLimit hostLimit = new CrawlerProperties.HostLimit();
+        hostLimit.setRequestsPerSecond(5.0);
+        hostLimit.setMaxConcurrent(3);
+        crawlerProperties.getFetch().getHosts().put("n.news.naver.com", hostLimit);
+        
+        // when
+        fetchGateway.execute("https://n.news.naver.com/mnews/article/001/0000000001", () -> "article");
+        fetchGateway.execute("https://www.yna.co.kr/view/AKR20240101000100001", () -> "article");
+        
+        // then
+        for (HostBudget budget : fetchGateway.getBudgets()) {
+            HostLimits expected = budget.getHost().equals("n.news.naver.com")
+                    ? new HostLimits(5.0, 3) : new HostLimits(2.0, 4);
+            assertEquals(expected, budget.getLimits());
+        }
+    }
+    
+    @Test
+    void execute_AlternatingLimits_RateLimitNotReset() throws Exception {
+        // given (초당 1회, 버킷 크기 1)
+        long start = System.nanoTime();
+        
+        // when
+        fetchGateway.execute(googleNewsSite, "https://news.google.com/rss/search?q=AI", () -> "rss");
+        fetchGateway.execute("https://news.google.com/rss/articles/CBMi1", () -> "article");
+        
+        // then (두 번째 요청은 토큰이 다시 찰 때까지 대기)
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 800, "elapsed: " + elapsedMillis);
+    }
+    
+    @Test
+    void update_LowerMaxConcurrent_AppliedInPlaceWithoutDroppingInFlight() throws Exception {
+        // given
+        HostBudget budget = new HostBudget("news.google.com", new HostLimits(100.0, 2));
+        budget.acquire();
+        budget.acquire();
+        
+        // when
+        budget.update(new HostLimits(100.0, 1));
+        
+        // then
+        assertEquals(new HostLimits(100.0, 1), budget.getLimits());
+        assertEquals(2, budget.getInFlight());
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+                try {
+                    budget.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, executor);
+            
+            // 진행 중인 요청 하나가 끝나도 새 제한(1개)에 도달해 있으므로 계속 대기
+            budget.release();
+            Thread.sleep(200);
+            assertFalse(third.isDone());
+            
+            budget.release();
+            third.get(5, TimeUnit.SECONDS);
+            assertEquals(1, budget.getInFlight());
+        }
+    }
+    
+    @Test
+    void update_HigherMaxConcurrent_ReleasesWaitingRequest() throws Exception {
+        // given
+        HostBudget budget = new HostBudget("search.naver.com", new HostLimits(100.0, 1));
+        budget.acquire();
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+                try {
+                    budget.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, executor);
+            Thread.sleep(200);
+            assertFalse(second.isDone());
+        
+            // when
+            budget.update(new HostLimits(100.0, 2));
+            
+            // then (진행 중인 요청이 끝나지 않아도 늘어난 허가로 바로 진행)
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals(new HostLimits(100.0, 2), budget.getLimits());
+            assertEquals(2, budget.getInFlight());
+        }
+    }
+    
+    private NewsSite googleNewsSite(double requestsPerSecond, int maxConcurrentRequests) {
+        return NewsSite.builder()
+                .id(2L)
+                .name("구글 뉴스")
+                .baseUrl("https://news.google.com")
+                .searchUrlPattern("https://news.google.com/rss/search?q={keyword}&hl=ko&gl=KR&ceid=KR:ko")
+                .requestsPerSecond(requestsPerSecond)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .build();
+    }
+}
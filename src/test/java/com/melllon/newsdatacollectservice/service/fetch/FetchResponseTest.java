@@ -0,0 +1,54 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FetchResponseTest {
+    
+    @Test
+    void parse_RssContentType_UsesXmlParser() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/rss+xml; charset=UTF-8");
+        byte[] body = "<rss><channel><item><title>제목</title><link>https://news.google.com/rss/articles/A</link></item></channel></rss>"
+                .getBytes(StandardCharsets.UTF_8);
+        FetchResponse response = new FetchResponse("https://news.google.com/rss/search?q=AI", 200, headers, body);
+        
+        // when
+        Document doc = response.parse();
+        
+        // then
+        assertEquals("https://news.google.com/rss/articles/A", doc.select("item > link").text());
+        assertEquals("제목", doc.select("item > title").text());
+    }
+    
+    @Test
+    void parse_HtmlWithoutCharsetHeader_UsesMetaCharset() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "text/html");
+        byte[] body = "<html><head><meta charset='EUC-KR'><title>뉴스</title></head></html>"
+                .getBytes("EUC-KR");
+        FetchResponse response = new FetchResponse("https://news.example.com/", 200, headers, body);
+        
+        // when
+        Document doc = response.parse();
+        
+        // then
+        assertEquals("뉴스", doc.title());
+    }
+    
+    @Test
+    void isSuccessful_NotModified_ReturnsFalse() {
+        // given
+        FetchResponse response = new FetchResponse("https://news.example.com/", 304, new HttpHeaders(), new byte[0]);
+        
+        // when & then
+        assertFalse(response.isSuccessful());
+    }
+}
@@ -0,0 +1,81 @@
+package com.melllon.newsdatacollectservice.service.fetch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    
+    @Test
+    void execute_ConcurrentSameKey_RunsCallOnce() throws Exception {
+        // given
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // when
+            Future<String> leader = executor.submit(() -> flights.execute("https://n.news.naver.com/article/001/1", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "본문";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> follower = executor.submit(() -> flights.execute("https://n.news.naver.com/article/001/1", () -> {
+                calls.incrementAndGet();
+                return "다른 본문";
+            }));
+            while (flights.getHitCount() == 0) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            
+            // then
+            assertEquals("본문", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("본문", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, flights.getHitCount());
+        assertEquals(1, flights.getMissCount());
+        assertEquals(0, flights.getInFlightCount());
+    }
+    
+    @Test
+    void execute_AfterCompletion_RunsCallAgain() throws Exception {
+        // given
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        // when
+        flights.execute("key", () -> "첫 번째 " + calls.incrementAndGet());
+        String second = flights.execute("key", () -> "두 번째 " + calls.incrementAndGet());
+        
+        // then
+        assertEquals("두 번째 2", second);
+        assertEquals(0, flights.getHitCount());
+        assertEquals(2, flights.getMissCount());
+    }
+    
+    @Test
+    void execute_CallFails_RethrowsAndReleasesKey() throws Exception {
+        // given
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        
+        // when & then
+        assertThrows(IOException.class, () -> flights.execute("key", () -> {
+            throw new IOException("연결 실패");
+        }));
+        assertEquals(0, flights.getInFlightCount());
+        assertEquals("본문", flights.execute("key", () -> "본문"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.melllon.newsdatacollectservice.service.match;
+
+import com.melllon.newsdatacollectservice.entity.Keyword;
+import com.melllon.newsdatacollectservice.repository.KeywordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordMatcherTest {
+    
+    @Mock
+    private KeywordRepository keywordRepository;
+    
+    @InjectMocks
+    private KeywordMatcher keywordMatcher;
+    
+    @Test
+    void match_ReturnsEveryMentionedKeyword() {
+        // given
+        when(keywordRepository.findByIsActiveTrue()).thenReturn(List.of(
+                keyword(1L, "AI"), keyword(2L, "인공지능"), keyword(3L, "반도체"), keyword(4L, "머신러닝")));
+        keywordMatcher.rebuild();
+        
+        // when
+        Set<Long> result = keywordMatcher.match("AI 반도체 수출 증가", "인공지능은 산업 전반으로 확산되고 있다.");
+        
+        // then
+        assertEquals(Set.of(1L, 2L, 3L), result);
+    }
+    
+    @Test
+    void match_LatinKeyword_OnlyAtWordBoundary() {
+        // given
+        when(keywordRepository.findByIsActiveTrue()).thenReturn(List.of(keyword(1L, "AI")));
+        keywordMatcher.rebuild();
+        
+        // when & then
+        assertTrue(keywordMatcher.match("He SAID the MAIN reason").isEmpty());
+        assertEquals(Set.of(1L), keywordMatcher.match("생성형 AI가 바꾸는 검색"));
+        assertEquals(Set.of(1L), keywordMatcher.match("(ai) 시대"));
+    }
+    
+    @Test
+    void match_NormalizesWidthCaseAndWhitespace() {
+        // given
+        when(keywordRepository.findByIsActiveTrue()).thenReturn(List.of(keyword(1L, "Open AI"), keyword(2L, "챗GPT")));
+        keywordMatcher.rebuild();
+        
+        // when
+        Set<Long> result = keywordMatcher.match("ＯＰＥＮ\n  ai 발표", "챗ＧＰＴ 이용자 증가");
+        
+        // then
+        assertEquals(Set.of(1L, 2L), result);
+    }
+    
+    @Test
+    void match_SameTermFromSeveralUsers_ReturnsAllKeywordIds() {
+        // given
+        when(keywordRepository.findByIsActiveTrue()).thenReturn(List.of(keyword(1L, "AI"), keyword(7L, "ai")));
+        keywordMatcher.rebuild();
+        
+        // when
+        Set<Long> result = keywordMatcher.match("AI 규제 논의");
+        
+        // then
+        assertEquals(Set.of(1L, 7L), result);
+    }
+    
+    @Test
+    void onKeywordsChanged_RebuildsWithCurrentKeywords() {
+        // given
+        when(keywordRepository.findByIsActiveTrue())
+                .thenReturn(List.of(keyword(1L, "AI")))
+                .thenReturn(List.of(keyword(2L, "반도체")));
+        keywordMatcher.rebuild();
+        
+        // when
+        keywordMatcher.onKeywordsChanged(new KeywordsChangedEvent());
+        
+        // then
+        assertEquals(Set.of(2L), keywordMatcher.match("AI 반도체"));
+    }
+    
+    private static Keyword keyword(Long id, String term) {
+        return Keyword.builder().id(id).keyword(term).isActive(true).build();
+    }
+}
@@ -28,24 +28,65 @@ CREATE TABLE IF NOT EXISTS news_sites (
     name VARCHAR(100) NOT NULL,
     base_url VARCHAR(255) NOT NULL,
     search_url_pattern VARCHAR(500) NOT NULL,
+    requests_per_second DOUBLE,
+    max_concurrent_requests INT,
     is_active BOOLEAN DEFAULT TRUE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
+-- 뉴스 기사 ID 시퀀스 (JDBC 배치 삽입용, 할당 크기 50)
+CREATE SEQUENCE IF NOT EXISTS news_articles_seq START WITH 1 INCREMENT BY 50;
+
 -- 뉴스 기사 테이블
 CREATE TABLE IF NOT EXISTS news_articles (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(500) NOT NULL,
     content TEXT,
     url VARCHAR(1000) NOT NULL,
+    url_hash BIGINT NOT NULL,
     published_at TIMESTAMP,
     collected_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    keyword_id BIGINT NOT NULL,
     news_site_id BIGINT NOT NULL,
-    FOREIGN KEY (keyword_id) REFERENCES keywords(id) ON DELETE CASCADE,
     FOREIGN KEY (news_site_id) REFERENCES news_sites(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_url (url)
-); 
\ No newline at end of file
+    UNIQUE KEY ux_news_articles_url_hash (url_hash)
+); 
+
+-- 기사-키워드 연결 ID 시퀀스 (JDBC 배치 삽입용, 할당 크기 50)
+CREATE SEQUENCE IF NOT EXISTS article_keywords_seq START WITH 1 INCREMENT BY 50;
+
+-- 기사-키워드 연결 테이블 (기사는 한 번만 저장하고 찾은 키워드마다 연결)
+CREATE TABLE IF NOT EXISTS article_keywords (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    article_id BIGINT NOT NULL,
+    keyword_id BIGINT NOT NULL,
+    matched_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (article_id) REFERENCES news_articles(id) ON DELETE CASCADE,
+    FOREIGN KEY (keyword_id) REFERENCES keywords(id) ON DELETE CASCADE,
+    UNIQUE KEY ux_article_keywords_article_keyword (article_id, keyword_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_article_keywords_keyword_matched_at ON article_keywords (keyword_id, matched_at);
+
+-- 구글 뉴스 리다이렉트 변환 캐시 테이블
+CREATE TABLE IF NOT EXISTS google_news_redirects (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash BIGINT NOT NULL,
+    token VARCHAR(2000) NOT NULL,
+    target_url VARCHAR(2000) NOT NULL,
+    resolved_by VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY ux_google_news_redirects_token_hash (token_hash)
+);
+
+-- 호스트별 학습된 추출 셀렉터 테이블
+CREATE TABLE IF NOT EXISTS extraction_templates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    host VARCHAR(255) NOT NULL,
+    field VARCHAR(50) NOT NULL,
+    selector VARCHAR(500) NOT NULL,
+    learned_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY ux_extraction_templates_host_field (host, field)
+);